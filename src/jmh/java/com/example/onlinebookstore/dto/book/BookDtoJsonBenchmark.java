@@ -0,0 +1,56 @@
+package com.example.onlinebookstore.dto.book;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookDtoJsonBenchmark {
+    @Param({"20", "1000"})
+    private int booksCount;
+    private ObjectMapper objectMapper;
+    private List<BookDto> books;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        books = new ArrayList<>();
+        for (long i = 1; i <= booksCount; i++) {
+            books.add(new BookDto(
+                    i,
+                    "Book title " + i,
+                    "Author " + i,
+                    String.valueOf(1_000_000_000L + i),
+                    BigDecimal.valueOf(i, 2),
+                    "Description of book " + i,
+                    "cover-" + i + ".png",
+                    Set.of(1L, 2L)));
+        }
+    }
+
+    @Benchmark
+    public byte[] writeBookList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(books);
+    }
+}
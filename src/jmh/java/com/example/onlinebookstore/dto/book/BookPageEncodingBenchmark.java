@@ -0,0 +1,82 @@
+package com.example.onlinebookstore.dto.book;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookPageEncodingBenchmark {
+    private static final int BOOKS_COUNT = 1000;
+    @Param({"json", "smile", "cbor"})
+    private String format;
+    @Param({"false", "true"})
+    private boolean gzip;
+    private ObjectMapper objectMapper;
+    private List<BookDto> books;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        books = new ArrayList<>();
+        for (long i = 1; i <= BOOKS_COUNT; i++) {
+            books.add(new BookDto(
+                    i,
+                    "Book title " + i,
+                    "Author " + i % 50,
+                    String.valueOf(1_000_000_000L + i),
+                    BigDecimal.valueOf(1000 + i, 2),
+                    "Description of book " + i,
+                    "cover-" + i + ".png",
+                    Set.of(1L + i % 10, 2L + i % 10)));
+        }
+    }
+
+    @Benchmark
+    public byte[] writeBookPage(WireSize wireSize) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = gzip ? new GZIPOutputStream(bytes) : bytes) {
+            objectMapper.writeValue(out, books);
+        }
+        wireSize.bytes = bytes.size();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reports the encoded page size next to the timing as the {@code bytes}
+     * secondary result.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireSize {
+        public long bytes;
+    }
+}
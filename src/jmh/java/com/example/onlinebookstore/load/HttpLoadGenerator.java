@@ -0,0 +1,189 @@
+package com.example.onlinebookstore.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.stream.LongStream;
+
+public class HttpLoadGenerator {
+    private static final String DEFAULT_BASE_URL = "http://localhost:8080/api";
+    private static final String DEFAULT_PATHS = "/books,/orders";
+    private static final String DEFAULT_CART_SIZES = "1,10,100,500";
+    private static final String PASSWORD = "load-test";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String baseUrl = options.getOrDefault("baseUrl", DEFAULT_BASE_URL);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(
+                Long.parseLong(options.getOrDefault("duration", "30")));
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        if ("checkout".equals(options.get("scenario"))) {
+            List<String> tokens = registerUsers(client, baseUrl, concurrency);
+            long firstBookId = Long.parseLong(options.getOrDefault("firstBookId", "1"));
+            for (String cartSize : options.getOrDefault("cartSizes", DEFAULT_CART_SIZES)
+                    .split(",")) {
+                IntFunction<Iteration> checkout = checkout(client, baseUrl, tokens,
+                        firstBookId, Integer.parseInt(cartSize));
+                run(checkout, concurrency, warmup);
+                print("checkout cartSize=" + cartSize, concurrency, duration,
+                        run(checkout, concurrency, duration));
+            }
+            return;
+        }
+        String token = options.get("token");
+        for (String path : options.getOrDefault("paths", DEFAULT_PATHS).split(",")) {
+            HttpRequest request = createRequest(baseUrl + path, token, null);
+            IntFunction<Iteration> get = worker -> () -> send(client, request);
+            run(get, concurrency, warmup);
+            print(path, concurrency, duration, run(get, concurrency, duration));
+        }
+    }
+
+    private static IntFunction<Iteration> checkout(HttpClient client, String baseUrl,
+                                                   List<String> tokens, long firstBookId,
+                                                   int cartSize) {
+        return worker -> {
+            String token = tokens.get(worker);
+            List<HttpRequest> addToCart = LongStream.range(firstBookId, firstBookId + cartSize)
+                    .mapToObj(bookId -> createRequest(baseUrl + "/cart", token,
+                            "{\"bookId\":" + bookId + ",\"quantity\":1}"))
+                    .toList();
+            HttpRequest createOrder = createRequest(baseUrl + "/orders", token,
+                    "{\"shippingAddress\":\"load test\"}");
+            return () -> {
+                for (HttpRequest request : addToCart) {
+                    send(client, request);
+                }
+                return send(client, createOrder);
+            };
+        };
+    }
+
+    private static List<String> registerUsers(HttpClient client, String baseUrl,
+                                              int count) throws Exception {
+        String prefix = "load-" + System.currentTimeMillis() + "-";
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String email = prefix + i + "@example.com";
+            send(client, createRequest(baseUrl + "/auth/register", null,
+                    OBJECT_MAPPER.writeValueAsString(Map.of("email", email,
+                            "firstName", "Load", "lastName", "Test",
+                            "password", PASSWORD, "repeatPassword", PASSWORD))));
+            HttpResponse<String> login = client.send(
+                    createRequest(baseUrl + "/auth/login", null,
+                            OBJECT_MAPPER.writeValueAsString(Map.of(
+                                    "username", email, "password", PASSWORD))),
+                    HttpResponse.BodyHandlers.ofString());
+            tokens.add(OBJECT_MAPPER.readTree(login.body()).get("token").asText());
+        }
+        return tokens;
+    }
+
+    private static Result run(IntFunction<Iteration> workerFactory,
+                              int concurrency, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        List<Future<List<Long>>> workers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            Iteration iteration = workerFactory.apply(i);
+            workers.add(executor.submit(() -> {
+                List<Long> latencies = new ArrayList<>();
+                while (System.nanoTime() < deadline) {
+                    try {
+                        latencies.add(iteration.run());
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                }
+                return latencies;
+            }));
+        }
+        List<Long> latencies = new ArrayList<>();
+        for (Future<List<Long>> worker : workers) {
+            latencies.addAll(worker.get());
+        }
+        executor.shutdown();
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return new Result(sorted, errors.get());
+    }
+
+    private static long send(HttpClient client, HttpRequest request) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<Void> response = client.send(request,
+                HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request.method() + " " + request.uri()
+                    + " returned " + response.statusCode());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void print(String name, int concurrency, Duration duration, Result result) {
+        System.out.printf("%-10s concurrency=%d requests=%d errors=%d "
+                        + "throughput=%.1f req/s p50=%.1f ms p99=%.1f ms%n",
+                name, concurrency, result.latencies().length, result.errors(),
+                result.latencies().length / (double) duration.toSeconds(),
+                percentile(result.latencies(), 0.50), percentile(result.latencies(), 0.99));
+    }
+
+    private static HttpRequest createRequest(String url, String token, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30));
+        if (body == null) {
+            builder.GET();
+        } else {
+            builder.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            if (option.length == 2) {
+                options.put(option[0], option[1]);
+            }
+        }
+        return options;
+    }
+
+    private interface Iteration {
+        long run() throws Exception;
+    }
+
+    private record Result(long[] latencies, long errors) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.onlinebookstore.mapper;
+
+import com.example.onlinebookstore.dto.book.BookDto;
+import com.example.onlinebookstore.mapper.impl.BookMapperImpl;
+import com.example.onlinebookstore.model.Book;
+import com.example.onlinebookstore.model.Category;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookMapperBenchmark {
+    @Param({"0", "3", "20"})
+    private int categoriesCount;
+    private BookMapper bookMapper;
+    private Book book;
+
+    @Setup
+    public void setUp() {
+        bookMapper = new BookMapperImpl();
+        book = new Book()
+                .setId(1L)
+                .setTitle("Sherlock Holmes")
+                .setAuthor("Conan Doyle")
+                .setIsbn("262462462624")
+                .setPrice(BigDecimal.valueOf(55))
+                .setDescription("detective stories")
+                .setCoverImage("cover.png");
+        for (long i = 1; i <= categoriesCount; i++) {
+            book.getCategories().add(new Category().setId(i).setName("category " + i));
+        }
+    }
+
+    @Benchmark
+    public BookDto toDto() {
+        return bookMapper.toDto(book);
+    }
+}
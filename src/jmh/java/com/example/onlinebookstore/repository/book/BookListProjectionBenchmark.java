@@ -0,0 +1,109 @@
+package com.example.onlinebookstore.repository.book;
+
+import com.example.onlinebookstore.dto.book.BookDto;
+import com.example.onlinebookstore.mapper.BookMapper;
+import com.example.onlinebookstore.mapper.impl.BookMapperImpl;
+import com.example.onlinebookstore.model.Book;
+import com.example.onlinebookstore.model.Category;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookListProjectionBenchmark {
+    private static final int BOOKS_COUNT = 500;
+    private static final int CATEGORIES_COUNT = 10;
+    private static final int CATEGORIES_PER_BOOK = 3;
+    @Param({"20", "100"})
+    private int pageSize;
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private BookMapper bookMapper;
+    private SimpleJpaRepository<Book, Long> entityRepository;
+    private BookProjectionRepository projectionRepository;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Book.class)
+                .addAnnotatedClass(Category.class)
+                .setProperty(AvailableSettings.URL, "jdbc:h2:mem:books;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .buildSessionFactory();
+        sessionFactory.inTransaction(session -> {
+            List<Category> categories = new ArrayList<>();
+            for (int i = 0; i < CATEGORIES_COUNT; i++) {
+                Category category = new Category().setName("category " + i);
+                session.persist(category);
+                categories.add(category);
+            }
+            for (int i = 0; i < BOOKS_COUNT; i++) {
+                Book book = new Book()
+                        .setTitle("Book title " + i)
+                        .setAuthor("Author " + (i % 50))
+                        .setIsbn("isbn-" + i)
+                        .setPrice(BigDecimal.valueOf(10 + i % 90))
+                        .setDescription("description " + i)
+                        .setCoverImage("cover-" + i + ".png");
+                for (int j = 0; j < CATEGORIES_PER_BOOK; j++) {
+                    book.getCategories().add(categories.get((i + j) % CATEGORIES_COUNT));
+                }
+                session.persist(book);
+            }
+        });
+        entityManager = sessionFactory.createEntityManager();
+        bookMapper = new BookMapperImpl();
+        entityRepository = new SimpleJpaRepository<>(Book.class, entityManager);
+        projectionRepository = new BookProjectionRepositoryImpl(entityManager);
+        pageable = PageRequest.of(0, pageSize, Sort.by("id"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<BookDto> hydrateEntities() {
+        entityManager.clear();
+        return entityRepository.findAll(pageable)
+                .stream()
+                .map(bookMapper::toDto)
+                .toList();
+    }
+
+    @Benchmark
+    public List<BookDto> projectDtos() {
+        entityManager.clear();
+        return projectionRepository.findAllAsDto(Specification.where(null), pageable);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.onlinebookstore.repository.book;
+
+import com.example.onlinebookstore.dto.book.BookSearchParametersDto;
+import com.example.onlinebookstore.model.Book;
+import com.example.onlinebookstore.repository.specification.AuthorSpecificationProvider;
+import com.example.onlinebookstore.repository.specification.GreatestPriceSpecificationProvider;
+import com.example.onlinebookstore.repository.specification.LowestPriceSpecificationProvider;
+import com.example.onlinebookstore.repository.specification.PriceKeysetSpecificationProvider;
+import com.example.onlinebookstore.repository.specification.QuerySpecificationProvider;
+import com.example.onlinebookstore.repository.specification.TitleKeysetSpecificationProvider;
+import com.example.onlinebookstore.repository.specification.TitleSpecificationProvider;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookSpecificationBuilderBenchmark {
+    private BookSpecificationBuilder builder;
+    private BookSearchParametersDto filterParameters;
+    private BookSearchParametersDto queryParameters;
+
+    @Setup
+    public void setUp() {
+        BookSearchIndex searchIndex = new BookSearchIndex(null);
+        for (long i = 1; i <= 1000; i++) {
+            searchIndex.index(new Book()
+                    .setId(i)
+                    .setTitle("Book title " + i)
+                    .setAuthor("Author " + (i % 50)));
+        }
+        builder = new BookSpecificationBuilder(new BookSpecificationProviderManager(List.of(
+                new QuerySpecificationProvider(searchIndex),
+                new TitleSpecificationProvider(),
+                new AuthorSpecificationProvider(),
+                new LowestPriceSpecificationProvider(),
+                new GreatestPriceSpecificationProvider(),
+                new PriceKeysetSpecificationProvider(),
+                new TitleKeysetSpecificationProvider())));
+        filterParameters = new BookSearchParametersDto(null,
+                new String[]{"Sherlock Holmes", "Snow White"},
+                new String[]{"Conan Doyle"},
+                new String[]{"10"},
+                new String[]{"100"},
+                new String[]{"55", "3"},
+                null);
+        queryParameters = new BookSearchParametersDto(new String[]{"title author 7"},
+                null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public Specification<Book> buildFilters() {
+        return builder.build(filterParameters);
+    }
+
+    @Benchmark
+    public Specification<Book> buildFullTextQuery() {
+        return builder.build(queryParameters);
+    }
+}
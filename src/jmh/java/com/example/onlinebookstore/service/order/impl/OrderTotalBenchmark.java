@@ -0,0 +1,46 @@
+package com.example.onlinebookstore.service.order.impl;
+
+import com.example.onlinebookstore.model.Order;
+import com.example.onlinebookstore.model.OrderItem;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderTotalBenchmark {
+    @Param({"1", "20", "500"})
+    private int itemsCount;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = new Order();
+        for (long i = 1; i <= itemsCount; i++) {
+            new OrderItem()
+                    .setId(i)
+                    .setPrice(BigDecimal.valueOf(i, 2).add(BigDecimal.TEN))
+                    .setQuantity((int) (i % 5) + 1)
+                    .addOrder(order);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal total() {
+        return OrderTotals.of(order.getOrderItems());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.onlinebookstore.validation;
+
+import com.example.onlinebookstore.model.Book;
+import com.example.onlinebookstore.model.Category;
+import com.example.onlinebookstore.repository.book.BookProjectionRepositoryImpl;
+import com.example.onlinebookstore.repository.book.BookRepository;
+import jakarta.persistence.EntityManager;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IsbnValidatorBenchmark {
+    private static final String INSERT_BOOKS = "INSERT INTO books "
+            + "(id, title, author, isbn, price, is_deleted, version, updated_at) "
+            + "SELECT x, 'Book ' || x, 'Author', 'isbn-' || x, 10, false, 0, CURRENT_TIMESTAMP "
+            + "FROM SYSTEM_RANGE(1, :booksCount)";
+    @Param({"1000", "100000", "1000000"})
+    private int booksCount;
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private IsbnValidator isbnValidator;
+    private String existingIsbn;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Book.class)
+                .addAnnotatedClass(Category.class)
+                .setProperty(AvailableSettings.URL, "jdbc:h2:mem:isbn;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .buildSessionFactory();
+        sessionFactory.inTransaction(session -> session.createNativeMutationQuery(INSERT_BOOKS)
+                .setParameter("booksCount", booksCount)
+                .executeUpdate());
+        entityManager = sessionFactory.createEntityManager();
+        BookRepository bookRepository = new JpaRepositoryFactory(entityManager).getRepository(
+                BookRepository.class,
+                RepositoryFragments.just(new BookProjectionRepositoryImpl(entityManager)));
+        isbnValidator = new IsbnValidator();
+        ReflectionTestUtils.setField(isbnValidator, "bookRepository", bookRepository);
+        existingIsbn = "isbn-" + booksCount / 2;
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public boolean existingIsbn() {
+        return isbnValidator.isValid(existingIsbn, null);
+    }
+
+    @Benchmark
+    public boolean newIsbn() {
+        return isbnValidator.isValid("isbn-new", null);
+    }
+
+    @Benchmark
+    public boolean scanAllIsbns() {
+        entityManager.clear();
+        return !entityManager.createQuery("SELECT b.isbn FROM Book b", String.class)
+                .getResultList()
+                .contains(existingIsbn);
+    }
+}
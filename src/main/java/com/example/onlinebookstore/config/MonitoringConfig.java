@@ -0,0 +1,39 @@
+package com.example.onlinebookstore.config;
+
+import com.example.onlinebookstore.monitoring.EntityLoadInterceptor;
+import com.example.onlinebookstore.monitoring.JdbcTimingListener;
+import com.example.onlinebookstore.monitoring.SqlMetricsInspector;
+import com.example.onlinebookstore.monitoring.TimedHttpMessageConverter;
+import java.util.List;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MonitoringConfig implements WebMvcConfigurer {
+    @Bean
+    public HibernatePropertiesCustomizer requestMetricsHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlMetricsInspector());
+            properties.put(AvailableSettings.INTERCEPTOR, new EntityLoadInterceptor());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                    JdbcTimingListener.class.getName());
+        };
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(this::timed);
+    }
+
+    private HttpMessageConverter<?> timed(HttpMessageConverter<?> converter) {
+        if (converter instanceof AbstractJackson2HttpMessageConverter jackson) {
+            return new TimedHttpMessageConverter(jackson);
+        }
+        return converter;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.onlinebookstore.config;
 
 import com.example.onlinebookstore.security.impl.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,6 +36,8 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(
                     auth -> auth
+                            .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                            .permitAll()
                             .requestMatchers(
                                     "/auth/**",
                                     "/swagger-ui/**",
@@ -1,12 +1,19 @@
 package com.example.onlinebookstore.controller;
 
 import com.example.onlinebookstore.dto.book.BookDto;
+import com.example.onlinebookstore.dto.book.BookImportResultDto;
 import com.example.onlinebookstore.dto.book.BookSearchParametersDto;
 import com.example.onlinebookstore.dto.book.CreateBookRequestDto;
+import com.example.onlinebookstore.dto.version.ResourceTagDto;
+import com.example.onlinebookstore.service.book.BookImportService;
 import com.example.onlinebookstore.service.book.BookService;
+import com.example.onlinebookstore.service.export.ExportFormat;
+import com.example.onlinebookstore.service.export.ExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -20,9 +27,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 @Tag(name = "Book Management",
         description = "Endpoints which indicate a specific action with book")
@@ -31,11 +41,18 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping(value = "/books")
 public class BookController {
     private final BookService bookService;
+    private final BookImportService bookImportService;
+    private final ExportService exportService;
+    private final ExportResponses exportResponses;
 
     @GetMapping
     @Operation(summary = "Get all books",
             description = "Receive all books that are not deleted")
-    public List<BookDto> getAll(Pageable pageable) {
+    public List<BookDto> getAll(Pageable pageable, WebRequest request) {
+        ResourceTagDto tag = bookService.getBooksTag(pageable);
+        if (request.checkNotModified(tag.etag(), tag.lastModifiedMillis())) {
+            return null;
+        }
         return bookService.findAll(pageable);
     }
 
@@ -48,10 +65,46 @@ public class BookController {
         return bookService.save(requestDto);
     }
 
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Operation(summary = "Import books from CSV",
+            description = "Stream a CSV with a title,author,isbn,price[,description,coverImage,"
+                    + "categoryIds] header; categoryIds are separated by ';'. "
+                    + "Valid rows are saved, invalid ones are reported by line number")
+    public BookImportResultDto importCsv(InputStream inputStream) {
+        return bookImportService.importCsv(inputStream);
+    }
+
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    @Operation(summary = "Import books from NDJSON",
+            description = "Stream one create book request per line. "
+                    + "Valid rows are saved, invalid ones are reported by line number")
+    public BookImportResultDto importNdjson(InputStream inputStream) {
+        return bookImportService.importNdjson(inputStream);
+    }
+
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping("/export")
+    @Operation(summary = "Export all books",
+            description = "Stream the whole catalog as CSV or NDJSON, "
+                    + "gzip-compressed when the client accepts it")
+    public WebAsyncTask<Void> exportBooks(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            HttpServletResponse response
+    ) {
+        return exportResponses.stream("books", format, response,
+                outputStream -> exportService.exportBooks(format, outputStream));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get a book",
             description = "Receiving a book that is stored in DB by certain id")
-    public BookDto getBookById(@PathVariable Long id) {
+    public BookDto getBookById(@PathVariable Long id, WebRequest request) {
+        ResourceTagDto tag = bookService.getBookTag(id);
+        if (request.checkNotModified(tag.etag(), tag.lastModifiedMillis())) {
+            return null;
+        }
         return bookService.getBookById(id);
     }
 
@@ -76,8 +129,10 @@ public class BookController {
     @GetMapping("/search")
     @ResponseBody
     @Operation(summary = "Search for books",
-            description = "Receiving all books that are correspond to the specified parameters")
+            description = "Receiving all books that are correspond to the specified parameters. "
+                    + "Pass priceAfter=price,id or titleAfter=title,id of the last received "
+                    + "book to seek to the next page ordered by that key")
     public List<BookDto> searchBooks(BookSearchParametersDto searchParameters, Pageable pageable) {
-        return bookService.searchBooks(searchParameters);
+        return bookService.searchBooks(searchParameters, pageable);
     }
 }
@@ -1,8 +1,10 @@
 package com.example.onlinebookstore.controller;
 
 import com.example.onlinebookstore.dto.book.BookDtoWithoutCategoryIds;
+import com.example.onlinebookstore.dto.book.BookSliceDto;
 import com.example.onlinebookstore.dto.category.CategoryRequestDto;
 import com.example.onlinebookstore.dto.category.CategoryResponseDto;
+import com.example.onlinebookstore.dto.version.ResourceTagDto;
 import com.example.onlinebookstore.service.book.BookService;
 import com.example.onlinebookstore.service.category.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,6 +24,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Category Management",
         description = "Endpoints which indicate a specific action with category")
@@ -43,14 +46,22 @@ public class CategoryController {
     @GetMapping("/{id}")
     @Operation(summary = "Get a category",
             description = "Receive a category that is stored in DB by certain id")
-    public CategoryResponseDto getById(@PathVariable Long id) {
+    public CategoryResponseDto getById(@PathVariable Long id, WebRequest request) {
+        ResourceTagDto tag = categoryService.getCategoryTag(id);
+        if (request.checkNotModified(tag.etag(), tag.lastModifiedMillis())) {
+            return null;
+        }
         return categoryService.getById(id);
     }
 
     @GetMapping
     @Operation(summary = "Get all categories",
             description = "Receive all categories that are not deleted")
-    public List<CategoryResponseDto> getAll(Pageable pageable) {
+    public List<CategoryResponseDto> getAll(Pageable pageable, WebRequest request) {
+        ResourceTagDto tag = categoryService.getCategoriesTag(pageable);
+        if (request.checkNotModified(tag.etag(), tag.lastModifiedMillis())) {
+            return null;
+        }
         return categoryService.findAll(pageable);
     }
 
@@ -80,4 +91,14 @@ public class CategoryController {
     ) {
         return bookService.findAllBooksByCategoryIds(id, pageable);
     }
+
+    @GetMapping("/{id}/books/slice")
+    @Operation(summary = "Scroll through books by category id",
+            description = "Receive a slice of books by category id with a hasNext flag "
+                    + "instead of a total count, for infinite-scroll clients")
+    public BookSliceDto findSliceByCategoryId(
+            @PathVariable Long id, Pageable pageable
+    ) {
+        return bookService.findBooksSliceByCategoryId(id, pageable);
+    }
 }
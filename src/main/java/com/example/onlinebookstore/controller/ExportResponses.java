@@ -0,0 +1,34 @@
+package com.example.onlinebookstore.controller;
+
+import com.example.onlinebookstore.service.export.ExportFormat;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+@Component
+class ExportResponses {
+    private final long timeoutMillis;
+
+    ExportResponses(@Value("${export.timeout:PT30M}") Duration timeout) {
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    WebAsyncTask<Void> stream(String name, ExportFormat format,
+                              HttpServletResponse response, Consumer<OutputStream> export) {
+        return new WebAsyncTask<>(timeoutMillis, () -> {
+            response.setContentType(format.getMediaType());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(name + "." + format.getExtension())
+                    .build()
+                    .toString());
+            export.accept(response.getOutputStream());
+            return null;
+        });
+    }
+}
@@ -4,13 +4,18 @@ import com.example.onlinebookstore.dto.order.OrderItemResponseDto;
 import com.example.onlinebookstore.dto.order.OrderRequestDto;
 import com.example.onlinebookstore.dto.order.OrderResponseDto;
 import com.example.onlinebookstore.dto.order.OrderStatusDto;
+import com.example.onlinebookstore.service.export.ExportFormat;
+import com.example.onlinebookstore.service.export.ExportService;
 import com.example.onlinebookstore.service.order.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -18,7 +23,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 @Tag(name = "Order Management",
         description = "Endpoints which indicate a specific action with Order")
@@ -27,6 +34,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping(value = "/orders")
 public class OrderController {
     private final OrderService orderService;
+    private final ExportService exportService;
+    private final ExportResponses exportResponses;
 
     @GetMapping
     @Operation(summary = "Get Orders for current User",
@@ -36,6 +45,24 @@ public class OrderController {
         return orderService.getOrdersForCurrentUser(pageable);
     }
 
+    @PreAuthorize("hasAuthority('ADMIN')")
+    @GetMapping("/export")
+    @Operation(summary = "Export Orders placed in a date range",
+            description = "Stream one row per Order Item for Orders placed from inclusive "
+                    + "to exclusive as CSV or NDJSON, gzip-compressed when the client accepts it")
+    public WebAsyncTask<Void> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            HttpServletResponse response
+    ) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        return exportResponses.stream("orders", format, response,
+                outputStream -> exportService.exportOrders(from, to, format, outputStream));
+    }
+
     @PostMapping
     @Operation(summary = "Create a new Order",
             description = "Create a new Order based on Shopping Cart "
@@ -4,6 +4,7 @@ import com.example.onlinebookstore.dto.cart.CartItemQuantityDto;
 import com.example.onlinebookstore.dto.cart.CartItemRequestDto;
 import com.example.onlinebookstore.dto.cart.CartItemResponseDto;
 import com.example.onlinebookstore.dto.cart.CartResponseDto;
+import com.example.onlinebookstore.dto.cart.CartSummaryDto;
 import com.example.onlinebookstore.service.cart.ShoppingCartService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -36,6 +37,14 @@ public class ShoppingCartController {
         return shoppingCartService.getCartForCurrentUser();
     }
 
+    @GetMapping("/summary")
+    @Operation(summary = "Get Cart summary for current User",
+            description = "Receive item count, total quantity and subtotal "
+                    + "of the Shopping Cart without loading its Items")
+    public CartSummaryDto getCartSummary() {
+        return shoppingCartService.getCartSummaryForCurrentUser();
+    }
+
     @PostMapping
     @Operation(summary = "Add an Item(Book) to Cart",
             description = "Add a new book to the Shopping Cart")
@@ -2,18 +2,25 @@ package com.example.onlinebookstore.dto.book;
 
 import java.math.BigDecimal;
 import java.util.Set;
-import lombok.Data;
-import lombok.experimental.Accessors;
 
-@Data
-@Accessors(chain = true)
-public class BookDto {
-    private Long id;
-    private String title;
-    private String author;
-    private String isbn;
-    private BigDecimal price;
-    private String description;
-    private String coverImage;
-    private Set<Long> categoryIds;
+public record BookDto(Long id,
+                      String title,
+                      String author,
+                      String isbn,
+                      BigDecimal price,
+                      String description,
+                      String coverImage,
+                      Set<Long> categoryIds) {
+    public BookDto {
+        categoryIds = categoryIds == null ? null : Set.copyOf(categoryIds);
+    }
+
+    public BookDto(Long id, String title, String author, String isbn, BigDecimal price,
+                   String description, String coverImage) {
+        this(id, title, author, isbn, price, description, coverImage, null);
+    }
+
+    public BookDto withCategoryIds(Set<Long> categoryIds) {
+        return new BookDto(id, title, author, isbn, price, description, coverImage, categoryIds);
+    }
 }
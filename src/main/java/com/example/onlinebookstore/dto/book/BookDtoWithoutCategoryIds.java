@@ -1,17 +1,12 @@
 package com.example.onlinebookstore.dto.book;
 
 import java.math.BigDecimal;
-import lombok.Data;
-import lombok.experimental.Accessors;
 
-@Data
-@Accessors(chain = true)
-public class BookDtoWithoutCategoryIds {
-    private Long id;
-    private String title;
-    private String author;
-    private String isbn;
-    private BigDecimal price;
-    private String description;
-    private String coverImage;
+public record BookDtoWithoutCategoryIds(Long id,
+                                        String title,
+                                        String author,
+                                        String isbn,
+                                        BigDecimal price,
+                                        String description,
+                                        String coverImage) {
 }
@@ -0,0 +1,15 @@
+package com.example.onlinebookstore.dto.book;
+
+import java.math.BigDecimal;
+
+public record BookExportRowDto(
+        Long id,
+        String title,
+        String author,
+        String isbn,
+        BigDecimal price,
+        String description,
+        String coverImage,
+        Long categoryId
+) {
+}
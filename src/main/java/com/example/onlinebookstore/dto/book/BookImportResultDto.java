@@ -0,0 +1,14 @@
+package com.example.onlinebookstore.dto.book;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class BookImportResultDto {
+    private long imported;
+    private long failed;
+    private List<BookImportErrorDto> errors = new ArrayList<>();
+}
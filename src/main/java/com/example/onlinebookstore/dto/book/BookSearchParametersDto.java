@@ -1,7 +1,10 @@
 package com.example.onlinebookstore.dto.book;
 
-public record BookSearchParametersDto(String[] titles,
+public record BookSearchParametersDto(String[] q,
+                                      String[] titles,
                                       String[] authors,
                                       String[] lowestPrice,
-                                      String[] greatestPrice) {
+                                      String[] greatestPrice,
+                                      String[] priceAfter,
+                                      String[] titleAfter) {
 }
@@ -0,0 +1,10 @@
+package com.example.onlinebookstore.dto.book;
+
+import java.util.List;
+import org.springframework.data.domain.Slice;
+
+public record BookSliceDto(List<BookDtoWithoutCategoryIds> content, boolean hasNext) {
+    public static BookSliceDto of(Slice<BookDtoWithoutCategoryIds> slice) {
+        return new BookSliceDto(List.copyOf(slice.getContent()), slice.hasNext());
+    }
+}
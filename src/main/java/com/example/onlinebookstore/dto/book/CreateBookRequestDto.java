@@ -1,8 +1,10 @@
 package com.example.onlinebookstore.dto.book;
 
+import com.example.onlinebookstore.validation.BookImportChecks;
 import com.example.onlinebookstore.validation.Isbn;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.groups.Default;
 import java.math.BigDecimal;
 import java.util.Set;
 import lombok.Data;
@@ -11,15 +13,15 @@ import lombok.experimental.Accessors;
 @Data
 @Accessors(chain = true)
 public class CreateBookRequestDto {
-    @NotNull
+    @NotNull(groups = {Default.class, BookImportChecks.class})
     private String title;
-    @NotNull
+    @NotNull(groups = {Default.class, BookImportChecks.class})
     private String author;
-    @NotNull
+    @NotNull(groups = {Default.class, BookImportChecks.class})
     @Isbn
     private String isbn;
-    @Min(0)
-    @NotNull
+    @Min(value = 0, groups = {Default.class, BookImportChecks.class})
+    @NotNull(groups = {Default.class, BookImportChecks.class})
     private BigDecimal price;
     private Set<Long> categoryIds;
     private String description;
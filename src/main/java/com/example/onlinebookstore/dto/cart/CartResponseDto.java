@@ -1,5 +1,6 @@
 package com.example.onlinebookstore.dto.cart;
 
+import java.math.BigDecimal;
 import java.util.Set;
 import lombok.Data;
 import lombok.experimental.Accessors;
@@ -10,4 +11,7 @@ public class CartResponseDto {
     private Long id;
     private Long userId;
     private Set<CartItemResponseDto> items;
+    private int itemCount;
+    private int totalQuantity;
+    private BigDecimal subtotal;
 }
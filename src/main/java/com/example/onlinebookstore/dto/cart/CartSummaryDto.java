@@ -0,0 +1,17 @@
+package com.example.onlinebookstore.dto.cart;
+
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Accessors(chain = true)
+public class CartSummaryDto {
+    private int itemCount;
+    private int totalQuantity;
+    private BigDecimal subtotal;
+}
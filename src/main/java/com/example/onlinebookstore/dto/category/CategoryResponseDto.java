@@ -1,12 +1,4 @@
 package com.example.onlinebookstore.dto.category;
 
-import lombok.Data;
-import lombok.experimental.Accessors;
-
-@Data
-@Accessors(chain = true)
-public class CategoryResponseDto {
-    private Long id;
-    private String name;
-    private String description;
+public record CategoryResponseDto(Long id, String name, String description) {
 }
@@ -0,0 +1,19 @@
+package com.example.onlinebookstore.dto.order;
+
+import com.example.onlinebookstore.model.Order;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record OrderExportRowDto(
+        Long orderId,
+        Long userId,
+        LocalDateTime orderDate,
+        Order.Status status,
+        BigDecimal total,
+        String shippingAddress,
+        Long orderItemId,
+        Long bookId,
+        Integer quantity,
+        BigDecimal price
+) {
+}
@@ -5,9 +5,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Set;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
 
 @Data
+@NoArgsConstructor
 @Accessors(chain = true)
 public class OrderResponseDto {
     private Long id;
@@ -16,4 +18,15 @@ public class OrderResponseDto {
     private LocalDateTime orderDate;
     private BigDecimal total;
     private Order.Status status;
+    private Long version;
+
+    public OrderResponseDto(Long id, Long userId, LocalDateTime orderDate,
+                            BigDecimal total, Order.Status status, Long version) {
+        this.id = id;
+        this.userId = userId;
+        this.orderDate = orderDate;
+        this.total = total;
+        this.status = status;
+        this.version = version;
+    }
 }
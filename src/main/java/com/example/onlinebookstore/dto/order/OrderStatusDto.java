@@ -10,4 +10,5 @@ import lombok.experimental.Accessors;
 public class OrderStatusDto {
     @NotNull
     private Order.Status status;
+    private Long version;
 }
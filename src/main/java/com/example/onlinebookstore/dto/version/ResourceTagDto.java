@@ -0,0 +1,33 @@
+package com.example.onlinebookstore.dto.version;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.util.DigestUtils;
+
+public record ResourceTagDto(String etag, Instant lastModified) {
+    private static final String WEAK_PREFIX = "W/";
+
+    public static ResourceTagDto of(ResourceVersionDto version) {
+        return new ResourceTagDto(weak(version.id() + "-" + version.version()),
+                version.updatedAt());
+    }
+
+    /** Tags a page by its ids and versions, without a last-modified date. */
+    public static ResourceTagDto ofAll(List<ResourceVersionDto> versions) {
+        StringBuilder fingerprint = new StringBuilder();
+        for (ResourceVersionDto version : versions) {
+            fingerprint.append(version.id()).append(':').append(version.version()).append(',');
+        }
+        return new ResourceTagDto(weak(DigestUtils.md5DigestAsHex(
+                fingerprint.toString().getBytes(StandardCharsets.UTF_8))), null);
+    }
+
+    private static String weak(String tag) {
+        return WEAK_PREFIX + "\"" + tag + "\"";
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.toEpochMilli();
+    }
+}
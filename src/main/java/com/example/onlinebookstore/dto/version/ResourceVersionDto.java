@@ -0,0 +1,6 @@
+package com.example.onlinebookstore.dto.version;
+
+import java.time.Instant;
+
+public record ResourceVersionDto(Long id, Long version, Instant updatedAt) {
+}
@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -62,6 +63,13 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         return buildErrorResponse(HttpStatus.FORBIDDEN, List.of(e.getMessage()));
     }
 
+    @ExceptionHandler({
+            OptimisticLockingFailureException.class
+    })
+    public ResponseEntity<Object> handleConflictExceptions(RuntimeException e) {
+        return buildErrorResponse(HttpStatus.CONFLICT, List.of(e.getMessage()));
+    }
+
     private ResponseEntity<Object> buildErrorResponse(HttpStatus status, List<String> errors) {
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("timestamp", LocalDateTime.now());
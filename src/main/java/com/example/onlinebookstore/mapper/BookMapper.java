@@ -2,12 +2,11 @@ package com.example.onlinebookstore.mapper;
 
 import com.example.onlinebookstore.config.MapperConfig;
 import com.example.onlinebookstore.dto.book.BookDto;
-import com.example.onlinebookstore.dto.book.BookDtoWithoutCategoryIds;
 import com.example.onlinebookstore.dto.book.CreateBookRequestDto;
 import com.example.onlinebookstore.model.Book;
 import com.example.onlinebookstore.model.Category;
+import java.util.Set;
 import java.util.stream.Collectors;
-import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -16,22 +15,23 @@ import org.mapstruct.NullValuePropertyMappingStrategy;
 @Mapper(config = MapperConfig.class,
         nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
 public interface BookMapper {
+    @Mapping(target = "categoryIds", source = "categories")
+    @Mapping(target = "withCategoryIds", ignore = true)
     BookDto toDto(Book book);
 
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     Book toModel(CreateBookRequestDto requestDto);
 
-    BookDtoWithoutCategoryIds toDtoWithoutCategoryIds(Book book);
-
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     Book updateBookModelFromBookDto(@MappingTarget Book book,
                                     CreateBookRequestDto bookDto);
 
-    @AfterMapping
-    default void setCategoryIds(@MappingTarget BookDto bookDto, Book book) {
-        bookDto.setCategoryIds(book.getCategories()
-                .stream()
+    default Set<Long> toCategoryIds(Set<Category> categories) {
+        return categories.stream()
                 .map(Category::getId)
-                .collect(Collectors.toSet())
-        );
+                .collect(Collectors.toUnmodifiableSet());
     }
 }
@@ -14,9 +14,13 @@ import org.mapstruct.NullValuePropertyMappingStrategy;
 public interface CategoryMapper {
     CategoryResponseDto toDto(Category category);
 
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     Category toModel(CategoryRequestDto request);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     Category updateCategoryModelFromCategoryDto(
             @MappingTarget Category category,
             CategoryRequestDto categoryDto
@@ -2,12 +2,14 @@ package com.example.onlinebookstore.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 import lombok.AllArgsConstructor;
@@ -17,6 +19,7 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.Where;
 
 @Setter
@@ -26,23 +29,27 @@ import org.hibernate.annotations.Where;
 @ToString
 @Entity
 @Accessors(chain = true)
-@SQLDelete(sql = "UPDATE categories SET is_deleted = true WHERE id = ?")
+@SQLDelete(sql = "UPDATE categories SET is_deleted = true, version = version + 1, "
+        + "updated_at = CURRENT_TIMESTAMP(6) WHERE id = ? AND version = ?")
 @Where(clause = "is_deleted = false")
 @Table(name = "categories")
 public class Category {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categories_seq")
+    @SequenceGenerator(name = "categories_seq", sequenceName = "categories_seq",
+            allocationSize = 50)
     private Long id;
     @Column(nullable = false)
     private String name;
     private String description;
-    @ManyToMany(mappedBy = "categories", fetch = FetchType.EAGER)
+    @ToString.Exclude
+    @ManyToMany(mappedBy = "categories")
     private Set<Book> books = new HashSet<>();
     @Column(name = "is_deleted")
     private boolean isDeleted = false;
-
-    public void addBook(Book book) {
-        books.add(book);
-        book.getCategories().add(this);
-    }
+    @Version
+    private Long version;
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
 }
@@ -11,7 +11,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -31,15 +33,17 @@ import org.hibernate.annotations.Where;
 @NoArgsConstructor
 @Entity
 @Accessors(chain = true)
-@SQLDelete(sql = "UPDATE orders SET is_deleted = true WHERE id = ?")
+@SQLDelete(sql = "UPDATE orders SET is_deleted = true, version = version + 1 "
+        + "WHERE id = ? AND version = ?")
 @Where(clause = "is_deleted = false")
 @Table(name = "orders")
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
     @NotNull
@@ -53,16 +57,27 @@ public class Order {
     @Column(name = "shipping_address")
     private String shippingAddress;
     @NotNull
-    @OneToMany(mappedBy = "order", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "order")
     private Set<OrderItem> orderItems = new HashSet<>();
     @NotNull
     @Column(name = "is_deleted")
     private boolean isDeleted = false;
+    @Version
+    private Long version;
 
     public enum Status {
         COMPLETED,
         PENDING,
         DELIVERED,
-        ON_THE_WAY
+        ON_THE_WAY;
+
+        public boolean canTransitionTo(Status next) {
+            return switch (this) {
+                case PENDING -> next == ON_THE_WAY;
+                case ON_THE_WAY -> next == DELIVERED;
+                case DELIVERED -> next == COMPLETED;
+                case COMPLETED -> false;
+            };
+        }
     }
 }
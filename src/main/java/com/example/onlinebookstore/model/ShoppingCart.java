@@ -9,7 +9,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.Set;
 import lombok.AllArgsConstructor;
@@ -31,13 +33,21 @@ import org.hibernate.annotations.Where;
 @Table(name = "shopping_carts")
 public class ShoppingCart {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shopping_carts_seq")
+    @SequenceGenerator(name = "shopping_carts_seq", sequenceName = "shopping_carts_seq",
+            allocationSize = 50)
     private Long id;
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
-    @OneToMany(mappedBy = "shoppingCart", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "shoppingCart")
     private Set<CartItem> cartItems = new HashSet<>();
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+    @Column(name = "total_quantity", nullable = false)
+    private int totalQuantity;
+    @Column(nullable = false)
+    private BigDecimal subtotal = BigDecimal.ZERO;
     @Column(name = "is_deleted")
     private boolean isDeleted = false;
 
@@ -0,0 +1,13 @@
+package com.example.onlinebookstore.monitoring;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+public class EntityLoadInterceptor implements Interceptor {
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state,
+                          String[] propertyNames, Type[] types) {
+        RequestMetrics.recordEntityLoad();
+        return false;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.onlinebookstore.monitoring;
+
+import org.hibernate.BaseSessionEventListener;
+
+public class JdbcTimingListener extends BaseSessionEventListener {
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestMetrics.recordJdbcTime(System.nanoTime() - executionStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestMetrics.recordJdbcTime(System.nanoTime() - executionStart);
+    }
+}
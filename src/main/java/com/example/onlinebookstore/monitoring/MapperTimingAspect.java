@@ -0,0 +1,25 @@
+package com.example.onlinebookstore.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class MapperTimingAspect {
+    @Around("within(com.example.onlinebookstore.mapper..*)")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics == null) {
+            return joinPoint.proceed();
+        }
+        boolean outermost = metrics.enterMapper();
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            metrics.exitMapper(outermost, System.nanoTime() - start);
+        }
+    }
+}
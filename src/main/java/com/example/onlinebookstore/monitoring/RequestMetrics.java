@@ -0,0 +1,79 @@
+package com.example.onlinebookstore.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RequestMetrics {
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+    @Getter(AccessLevel.NONE)
+    private final int maxCapturedStatements;
+    private final List<String> statements = new ArrayList<>();
+    private int statementCount;
+    private long jdbcNanos;
+    private int entityLoads;
+    private long mapperNanos;
+    private long serializationNanos;
+    @Getter(AccessLevel.NONE)
+    private int mapperDepth;
+
+    static RequestMetrics start(int maxCapturedStatements) {
+        RequestMetrics metrics = new RequestMetrics(maxCapturedStatements);
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    static RequestMetrics current() {
+        return CURRENT.get();
+    }
+
+    static void recordStatement(String sql) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.statementCount++;
+            if (metrics.statements.size() < metrics.maxCapturedStatements) {
+                metrics.statements.add(sql);
+            }
+        }
+    }
+
+    static void recordJdbcTime(long nanos) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.jdbcNanos += nanos;
+        }
+    }
+
+    static void recordEntityLoad() {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.entityLoads++;
+        }
+    }
+
+    static void recordSerializationTime(long nanos) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.serializationNanos += nanos;
+        }
+    }
+
+    boolean enterMapper() {
+        return mapperDepth++ == 0;
+    }
+
+    void exitMapper(boolean outermost, long nanos) {
+        mapperDepth--;
+        if (outermost) {
+            mapperNanos += nanos;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.onlinebookstore.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+    private static final String UNMAPPED_ENDPOINT = "unmapped";
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final int maxLoggedStatements;
+
+    public RequestMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${request-metrics.slow-threshold:PT1S}") Duration slowThreshold,
+            @Value("${request-metrics.max-logged-statements:50}") int maxLoggedStatements
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.maxLoggedStatements = maxLoggedStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestMetrics metrics = RequestMetrics.start(maxLoggedStatements);
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long duration = System.nanoTime() - start;
+            RequestMetrics.clear();
+            String endpoint = getEndpoint(request);
+            record(endpoint, metrics);
+            if (duration >= slowThresholdNanos) {
+                logSlowRequest(request, endpoint, duration, metrics);
+            }
+        }
+    }
+
+    private void record(String endpoint, RequestMetrics metrics) {
+        Tags tags = Tags.of("endpoint", endpoint);
+        summary("request.sql.statements", tags).record(metrics.getStatementCount());
+        summary("request.entity.loads", tags).record(metrics.getEntityLoads());
+        timer("request.jdbc.time", tags).record(metrics.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        timer("request.mapper.time", tags)
+                .record(metrics.getMapperNanos(), TimeUnit.NANOSECONDS);
+        timer("request.serialization.time", tags)
+                .record(metrics.getSerializationNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private DistributionSummary summary(String name, Tags tags) {
+        return DistributionSummary.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Timer timer(String name, Tags tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void logSlowRequest(HttpServletRequest request, String endpoint,
+                                long duration, RequestMetrics metrics) {
+        log.warn("Slow request {} {} ({}) took {} ms: {} statements, jdbc {} ms, "
+                        + "{} entity loads, mapper {} ms, serialization {} ms{}",
+                request.getMethod(), request.getRequestURI(), endpoint,
+                TimeUnit.NANOSECONDS.toMillis(duration),
+                metrics.getStatementCount(),
+                TimeUnit.NANOSECONDS.toMillis(metrics.getJdbcNanos()),
+                metrics.getEntityLoads(),
+                TimeUnit.NANOSECONDS.toMillis(metrics.getMapperNanos()),
+                TimeUnit.NANOSECONDS.toMillis(metrics.getSerializationNanos()),
+                metrics.getStatements().stream()
+                        .map(sql -> System.lineSeparator() + "  " + sql)
+                        .collect(Collectors.joining()));
+    }
+
+    private String getEndpoint(HttpServletRequest request) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE)
+                instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName()
+                    + "." + handlerMethod.getMethod().getName();
+        }
+        return UNMAPPED_ENDPOINT;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.onlinebookstore.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class SqlMetricsInspector implements StatementInspector {
+    @Override
+    public String inspect(String sql) {
+        RequestMetrics.recordStatement(sql);
+        return sql;
+    }
+}
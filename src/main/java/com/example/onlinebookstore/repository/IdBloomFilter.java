@@ -0,0 +1,59 @@
+package com.example.onlinebookstore.repository;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class IdBloomFilter {
+    private static final double LN_2 = Math.log(2);
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public IdBloomFilter(long expectedIds, double falsePositiveRate) {
+        long ids = Math.max(expectedIds, 1);
+        long bits = (long) Math.ceil(-ids * Math.log(falsePositiveRate) / (LN_2 * LN_2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (bits + 63) >>> 6));
+        words = new AtomicLongArray(wordCount);
+        bitCount = (long) wordCount << 6;
+        hashCount = Math.max(1, (int) Math.round((double) bitCount / ids * LN_2));
+    }
+
+    public void add(long id) {
+        long hash = mix(id);
+        int first = (int) hash;
+        int second = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(first + (long) i * second);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0
+                    && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(long id) {
+        long hash = mix(id);
+        int first = (int) hash;
+        int second = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(first + (long) i * second);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(long combinedHash) {
+        return (combinedHash & Long.MAX_VALUE) % bitCount;
+    }
+
+    private static long mix(long value) {
+        long hash = value + 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
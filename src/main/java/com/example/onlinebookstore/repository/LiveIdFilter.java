@@ -0,0 +1,90 @@
+package com.example.onlinebookstore.repository;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** Bloom filter of the ids in one table; ids saved by other instances appear after a rebuild. */
+public abstract class LiveIdFilter {
+    private static final double GROWTH_FACTOR = 2;
+    private final Object lock = new Object();
+    @Value("${id-filter.enabled:true}")
+    private boolean enabled;
+    @Value("${id-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+    @Value("${id-filter.min-capacity:100000}")
+    private long minCapacity;
+    private volatile IdBloomFilter filter;
+    private Set<Long> addedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${id-filter.rebuild-interval:PT1H}",
+            fixedDelayString = "${id-filter.rebuild-interval:PT1H}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lock) {
+            addedDuringRebuild = new HashSet<>();
+        }
+        try {
+            long capacity = Math.max(minCapacity, (long) (countIds() * GROWTH_FACTOR));
+            IdBloomFilter rebuilt = new IdBloomFilter(capacity, falsePositiveRate);
+            try (Stream<Long> ids = streamAllIds()) {
+                ids.forEach(rebuilt::add);
+            }
+            synchronized (lock) {
+                addedDuringRebuild.forEach(rebuilt::add);
+                filter = rebuilt;
+            }
+        } finally {
+            synchronized (lock) {
+                addedDuringRebuild = null;
+            }
+        }
+    }
+
+    /** Adds the id after the current transaction commits. */
+    public void add(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addCommitted(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        addCommitted(id);
+                    }
+                });
+    }
+
+    public boolean isDefinitelyAbsent(Long id) {
+        IdBloomFilter current = filter;
+        return id != null && current != null && !current.mightContain(id);
+    }
+
+    protected abstract long countIds();
+
+    protected abstract Stream<Long> streamAllIds();
+
+    private void addCommitted(Long id) {
+        synchronized (lock) {
+            IdBloomFilter current = filter;
+            if (current != null) {
+                current.add(id);
+            }
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.onlinebookstore.repository.book;
+
+import com.example.onlinebookstore.repository.LiveIdFilter;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class BookIdFilter extends LiveIdFilter {
+    private final BookRepository bookRepository;
+
+    @Override
+    protected long countIds() {
+        return bookRepository.count();
+    }
+
+    @Override
+    protected Stream<Long> streamAllIds() {
+        return bookRepository.streamAllIds();
+    }
+}
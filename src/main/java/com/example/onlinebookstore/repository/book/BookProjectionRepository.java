@@ -0,0 +1,11 @@
+package com.example.onlinebookstore.repository.book;
+
+import com.example.onlinebookstore.dto.book.BookDto;
+import com.example.onlinebookstore.model.Book;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface BookProjectionRepository {
+    List<BookDto> findAllAsDto(Specification<Book> specification, Pageable pageable);
+}
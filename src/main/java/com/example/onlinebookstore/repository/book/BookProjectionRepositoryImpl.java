@@ -0,0 +1,69 @@
+package com.example.onlinebookstore.repository.book;
+
+import com.example.onlinebookstore.dto.book.BookDto;
+import com.example.onlinebookstore.model.Book;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+@RequiredArgsConstructor
+public class BookProjectionRepositoryImpl implements BookProjectionRepository {
+    private static final String CATEGORY_IDS_QUERY = "SELECT b.id, c.id "
+            + "FROM Book b JOIN b.categories c WHERE b.id IN :bookIds";
+    private final EntityManager entityManager;
+
+    @Override
+    public List<BookDto> findAllAsDto(Specification<Book> specification, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookDto> query = criteriaBuilder.createQuery(BookDto.class);
+        Root<Book> root = query.from(Book.class);
+        query.select(criteriaBuilder.construct(BookDto.class,
+                root.get("id"), root.get("title"), root.get("author"), root.get("isbn"),
+                root.get("price"), root.get("description"), root.get("coverImage")));
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+        TypedQuery<BookDto> typedQuery = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize());
+        }
+        return withCategoryIds(typedQuery.getResultList());
+    }
+
+    private List<BookDto> withCategoryIds(List<BookDto> books) {
+        if (books.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Set<Long>> categoryIds = entityManager
+                .createQuery(CATEGORY_IDS_QUERY, Tuple.class)
+                .setParameter("bookIds", books.stream().map(BookDto::id).toList())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList()
+                .stream()
+                .collect(Collectors.groupingBy(tuple -> tuple.get(0, Long.class),
+                        Collectors.mapping(tuple -> tuple.get(1, Long.class),
+                                Collectors.toUnmodifiableSet())));
+        return books.stream()
+                .map(book -> book.withCategoryIds(categoryIds.getOrDefault(book.id(), Set.of())))
+                .toList();
+    }
+}
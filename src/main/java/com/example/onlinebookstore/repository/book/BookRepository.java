@@ -1,15 +1,71 @@
 package com.example.onlinebookstore.repository.book;
 
+import com.example.onlinebookstore.dto.book.BookDtoWithoutCategoryIds;
+import com.example.onlinebookstore.dto.book.BookExportRowDto;
+import com.example.onlinebookstore.dto.version.ResourceVersionDto;
 import com.example.onlinebookstore.model.Book;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book> {
-    @Query(value = "SELECT * FROM books b INNER JOIN books_categories bc ON "
-            + "b.id = bc.book_id WHERE bc.category_id = :categoryId", nativeQuery = true)
-    Page<Book> findAllByCategoryIds(Long categoryId, Pageable pageable);
-}
+public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book>,
+        BookProjectionRepository {
+    String VERSIONS_QUERY = "SELECT new com.example.onlinebookstore.dto.version."
+            + "ResourceVersionDto(b.id, b.version, b.updatedAt) FROM Book b";
+    String BOOKS_BY_CATEGORY_QUERY = "SELECT new com.example.onlinebookstore.dto.book."
+            + "BookDtoWithoutCategoryIds(b.id, b.title, b.author, b.isbn, b.price, "
+            + "b.description, b.coverImage) "
+            + "FROM Book b JOIN b.categories c WHERE c.id = :categoryId";
+
+    @Query(BOOKS_BY_CATEGORY_QUERY)
+    List<BookDtoWithoutCategoryIds> findAllByCategoryId(Long categoryId, Pageable pageable);
+
+    @Query(BOOKS_BY_CATEGORY_QUERY)
+    Slice<BookDtoWithoutCategoryIds> findSliceByCategoryId(Long categoryId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "categories")
+    Optional<Book> findById(Long id);
+
+    boolean existsByIsbn(String isbn);
+
+    @Query(VERSIONS_QUERY + " WHERE b.id = :id")
+    Optional<ResourceVersionDto> findVersionById(Long id);
 
+    @Query(VERSIONS_QUERY)
+    List<ResourceVersionDto> findAllVersions(Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE books b JOIN books_categories bc ON bc.book_id = b.id "
+            + "SET b.version = b.version + 1, b.updated_at = CURRENT_TIMESTAMP(6) "
+            + "WHERE bc.category_id = :categoryId",
+            nativeQuery = true)
+    int touchByCategoryId(Long categoryId);
+
+    @Query(value = "SELECT b.isbn FROM books b WHERE b.isbn IN :isbns", nativeQuery = true)
+    Set<String> findExistingIsbns(Collection<String> isbns);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.example.onlinebookstore.dto.book.BookExportRowDto("
+            + "b.id, b.title, b.author, b.isbn, b.price, b.description, b.coverImage, c.id) "
+            + "FROM Book b LEFT JOIN b.categories c "
+            + "ORDER BY b.id")
+    Stream<BookExportRowDto> streamAllForExport();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT b.id FROM Book b")
+    Stream<Long> streamAllIds();
+}
@@ -0,0 +1,157 @@
+package com.example.onlinebookstore.repository.book;
+
+import com.example.onlinebookstore.model.Book;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class BookSearchIndex {
+    public static final int MAX_RESULTS = 500;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int AUTHOR_WEIGHT = 1;
+    private static final int EXACT_MATCH = 3;
+    private static final int PREFIX_MATCH = 2;
+    private static final int FUZZY_MATCH = 1;
+    private final BookRepository bookRepository;
+    private final NavigableMap<String, Map<Long, Integer>> postings =
+            new ConcurrentSkipListMap<>();
+    private final Map<Long, Set<String>> documents = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Page<Book> page;
+        int pageNumber = 0;
+        do {
+            page = bookRepository.findAll(
+                    PageRequest.of(pageNumber++, REBUILD_BATCH_SIZE, Sort.by("id")));
+            page.forEach(this::index);
+        } while (page.hasNext());
+    }
+
+    public synchronized void index(Book book) {
+        remove(book.getId());
+        Map<String, Integer> weights = new HashMap<>();
+        new HashSet<>(tokenize(book.getTitle())).forEach(token ->
+                weights.merge(token, TITLE_WEIGHT, Integer::sum));
+        new HashSet<>(tokenize(book.getAuthor())).forEach(token ->
+                weights.merge(token, AUTHOR_WEIGHT, Integer::sum));
+        weights.forEach((token, weight) -> postings
+                .computeIfAbsent(token, key -> new ConcurrentHashMap<>())
+                .put(book.getId(), weight));
+        documents.put(book.getId(), Set.copyOf(weights.keySet()));
+    }
+
+    public synchronized void remove(Long id) {
+        Set<String> tokens = documents.remove(id);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            postings.computeIfPresent(token, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public List<Long> search(String query) {
+        Map<Long, Integer> scores = new HashMap<>();
+        for (String term : new HashSet<>(tokenize(query))) {
+            Map<Long, Integer> termScores = new HashMap<>();
+            collectMatches(term, termScores);
+            termScores.forEach((id, score) -> scores.merge(id, score, Integer::sum));
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_RESULTS)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private void collectMatches(String term, Map<Long, Integer> termScores) {
+        Map<Long, Integer> exact = postings.get(term);
+        if (exact != null) {
+            addMatches(exact, EXACT_MATCH, termScores);
+        }
+        postings.subMap(term, false, term + Character.MAX_VALUE, false)
+                .values()
+                .stream()
+                .limit(MAX_PREFIX_EXPANSIONS)
+                .forEach(ids -> addMatches(ids, PREFIX_MATCH, termScores));
+        if (termScores.isEmpty() && term.length() >= MIN_FUZZY_LENGTH) {
+            String first = term.substring(0, 1);
+            postings.subMap(first, true, first + Character.MAX_VALUE, false)
+                    .forEach((token, ids) -> {
+                        if (isOneEditAway(term, token)) {
+                            addMatches(ids, FUZZY_MATCH, termScores);
+                        }
+                    });
+        }
+    }
+
+    private void addMatches(Map<Long, Integer> ids, int quality,
+                            Map<Long, Integer> termScores) {
+        ids.forEach((id, weight) -> termScores.merge(id, quality * weight, Math::max));
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isOneEditAway(String first, String second) {
+        if (Math.abs(first.length() - second.length()) > 1) {
+            return false;
+        }
+        String shorter = first.length() <= second.length() ? first : second;
+        String longer = first.length() <= second.length() ? second : first;
+        int i = 0;
+        int j = 0;
+        boolean edited = false;
+        while (i < shorter.length() && j < longer.length()) {
+            if (shorter.charAt(i) == longer.charAt(j)) {
+                i++;
+                j++;
+                continue;
+            }
+            if (edited) {
+                return false;
+            }
+            edited = true;
+            if (shorter.length() == longer.length()) {
+                i++;
+            }
+            j++;
+        }
+        return true;
+    }
+}
@@ -16,6 +16,10 @@ public class BookSpecificationBuilder implements SpecificationBuilder<Book> {
     @Override
     public Specification<Book> build(BookSearchParametersDto searchParameters) {
         Specification<Book> specification = Specification.where(null);
+        if (searchParameters.q() != null && searchParameters.q().length > 0) {
+            specification = specification.and(providerManager.getSpecificationProvider("q")
+                    .getSpecification(searchParameters.q()));
+        }
         if (searchParameters.titles() != null && searchParameters.titles().length > 0) {
             specification = specification.and(providerManager.getSpecificationProvider("title")
                     .getSpecification(searchParameters.titles()));
@@ -35,6 +39,16 @@ public class BookSpecificationBuilder implements SpecificationBuilder<Book> {
                     specification.and(providerManager.getSpecificationProvider("greatestPrice")
                     .getSpecification(searchParameters.greatestPrice()));
         }
+        if (searchParameters.priceAfter() != null && searchParameters.priceAfter().length > 0) {
+            specification =
+                    specification.and(providerManager.getSpecificationProvider("priceAfter")
+                    .getSpecification(searchParameters.priceAfter()));
+        }
+        if (searchParameters.titleAfter() != null && searchParameters.titleAfter().length > 0) {
+            specification =
+                    specification.and(providerManager.getSpecificationProvider("titleAfter")
+                    .getSpecification(searchParameters.titleAfter()));
+        }
         return specification;
     }
 }
@@ -1,10 +1,59 @@
 package com.example.onlinebookstore.repository.cart;
 
+import com.example.onlinebookstore.dto.cart.CartSummaryDto;
 import com.example.onlinebookstore.model.ShoppingCart;
-import com.example.onlinebookstore.model.User;
+import jakarta.persistence.LockModeType;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ShoppingCartRepository extends JpaRepository<ShoppingCart, Long> {
-    Optional<ShoppingCart> findByUser(User user);
+    String SUMMARY_COLUMNS = "SELECT ci.shopping_cart_id, "
+            + "COUNT(*) AS item_count, "
+            + "SUM(ci.quantity) AS total_quantity, "
+            + "SUM(ci.quantity * b.price) AS subtotal "
+            + "FROM cart_items ci JOIN books b ON b.id = ci.book_id ";
+    String SET_SUMMARY = "SET sc.item_count = COALESCE(s.item_count, 0), "
+            + "sc.total_quantity = COALESCE(s.total_quantity, 0), "
+            + "sc.subtotal = COALESCE(s.subtotal, 0) ";
+
+    @EntityGraph(attributePaths = {"cartItems", "cartItems.book"})
+    Optional<ShoppingCart> findByUserId(Long userId);
+
+    @Query("SELECT c.id FROM ShoppingCart c WHERE c.user.id = :userId")
+    Optional<Long> findIdByUserId(Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ShoppingCart c WHERE c.user.id = :userId")
+    Optional<ShoppingCart> findForUpdateByUserId(Long userId);
+
+    @Query("SELECT new com.example.onlinebookstore.dto.cart.CartSummaryDto("
+            + "c.itemCount, c.totalQuantity, c.subtotal) "
+            + "FROM ShoppingCart c WHERE c.user.id = :userId")
+    Optional<CartSummaryDto> findSummaryByUserId(Long userId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE shopping_carts sc LEFT JOIN (" + SUMMARY_COLUMNS
+            + "WHERE ci.shopping_cart_id = :id AND ci.is_deleted = false "
+            + "GROUP BY ci.shopping_cart_id) s ON s.shopping_cart_id = sc.id "
+            + SET_SUMMARY
+            + "WHERE sc.id = :id",
+            nativeQuery = true)
+    int refreshSummary(Long id);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE shopping_carts sc JOIN (" + SUMMARY_COLUMNS
+            + "WHERE ci.is_deleted = false AND ci.shopping_cart_id IN "
+            + "(SELECT shopping_cart_id FROM cart_items "
+            + "WHERE book_id = :bookId AND is_deleted = false) "
+            + "GROUP BY ci.shopping_cart_id) s ON s.shopping_cart_id = sc.id "
+            + SET_SUMMARY,
+            nativeQuery = true)
+    int refreshSummariesByBookId(Long bookId);
 }
@@ -1,7 +1,49 @@
 package com.example.onlinebookstore.repository.cartitem;
 
 import com.example.onlinebookstore.model.CartItem;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
+    @Modifying
+    @Query("UPDATE CartItem c SET c.isDeleted = true WHERE c.shoppingCart.id = :shoppingCartId")
+    int deleteAllByShoppingCartId(Long shoppingCartId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE cart_items "
+            + "SET quantity = IF(is_deleted, :quantity, quantity + :quantity), "
+            + "is_deleted = false "
+            + "WHERE shopping_cart_id = :shoppingCartId AND book_id = :bookId",
+            nativeQuery = true)
+    int addQuantity(Long shoppingCartId, Long bookId, int quantity);
+
+    @Query("SELECT c FROM CartItem c JOIN FETCH c.book "
+            + "WHERE c.shoppingCart.id = :shoppingCartId AND c.book.id = :bookId")
+    Optional<CartItem> findByShoppingCartIdAndBookId(Long shoppingCartId, Long bookId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE cart_items ci "
+            + "JOIN shopping_carts sc ON sc.id = ci.shopping_cart_id "
+            + "SET ci.quantity = :quantity "
+            + "WHERE ci.id = :id AND sc.user_id = :userId AND ci.is_deleted = false",
+            nativeQuery = true)
+    int updateQuantityByIdAndUserId(Long id, Long userId, int quantity);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE cart_items ci "
+            + "JOIN shopping_carts sc ON sc.id = ci.shopping_cart_id "
+            + "SET ci.is_deleted = true "
+            + "WHERE ci.id = :id AND sc.user_id = :userId AND ci.is_deleted = false",
+            nativeQuery = true)
+    int deleteByIdAndUserId(Long id, Long userId);
+
+    @EntityGraph(attributePaths = "book")
+    Optional<CartItem> findWithBookById(Long id);
 }
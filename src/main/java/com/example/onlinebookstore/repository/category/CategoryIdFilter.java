@@ -0,0 +1,22 @@
+package com.example.onlinebookstore.repository.category;
+
+import com.example.onlinebookstore.repository.LiveIdFilter;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class CategoryIdFilter extends LiveIdFilter {
+    private final CategoryRepository categoryRepository;
+
+    @Override
+    protected long countIds() {
+        return categoryRepository.count();
+    }
+
+    @Override
+    protected Stream<Long> streamAllIds() {
+        return categoryRepository.streamAllIds();
+    }
+}
@@ -1,7 +1,28 @@
 package com.example.onlinebookstore.repository.category;
 
+import com.example.onlinebookstore.dto.version.ResourceVersionDto;
 import com.example.onlinebookstore.model.Category;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+    String VERSIONS_QUERY = "SELECT new com.example.onlinebookstore.dto.version."
+            + "ResourceVersionDto(c.id, c.version, c.updatedAt) FROM Category c";
+
+    @Query(VERSIONS_QUERY + " WHERE c.id = :id")
+    Optional<ResourceVersionDto> findVersionById(Long id);
+
+    @Query(VERSIONS_QUERY)
+    List<ResourceVersionDto> findAllVersions(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.id FROM Category c")
+    Stream<Long> streamAllIds();
 }
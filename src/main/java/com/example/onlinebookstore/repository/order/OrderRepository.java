@@ -1,13 +1,49 @@
 package com.example.onlinebookstore.repository.order;
 
+import com.example.onlinebookstore.dto.order.OrderExportRowDto;
+import com.example.onlinebookstore.dto.order.OrderResponseDto;
 import com.example.onlinebookstore.model.Order;
-import com.example.onlinebookstore.model.User;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
-    Page<Order> getOrdersByUser(User user, Pageable pageable);
+    @Query("SELECT o.id FROM Order o WHERE o.user.id = :userId")
+    List<Long> findIdsByUserId(Long userId, Pageable pageable);
 
-    boolean existsByIdAndUser(Long id, User user);
+    @Query("SELECT DISTINCT o FROM Order o "
+            + "LEFT JOIN FETCH o.orderItems i "
+            + "LEFT JOIN FETCH i.book "
+            + "WHERE o.id IN :ids")
+    List<Order> findAllWithItemsByIdIn(Collection<Long> ids);
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    @Query("SELECT new com.example.onlinebookstore.dto.order.OrderResponseDto("
+            + "o.id, o.user.id, o.orderDate, o.total, o.status, o.version) "
+            + "FROM Order o WHERE o.id = :id")
+    Optional<OrderResponseDto> findResponseById(Long id);
+
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :status, o.version = o.version + 1 "
+            + "WHERE o.id = :id AND o.version = :version")
+    int updateStatus(Long id, Order.Status status, Long version);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.example.onlinebookstore.dto.order.OrderExportRowDto("
+            + "o.id, o.user.id, o.orderDate, o.status, o.total, o.shippingAddress, "
+            + "i.id, i.book.id, i.quantity, i.price) "
+            + "FROM Order o LEFT JOIN o.orderItems i "
+            + "WHERE o.orderDate >= :from AND o.orderDate < :to "
+            + "ORDER BY o.id, i.id")
+    Stream<OrderExportRowDto> streamForExport(LocalDateTime from, LocalDateTime to);
 }
@@ -0,0 +1,30 @@
+package com.example.onlinebookstore.repository.specification;
+
+import com.example.onlinebookstore.model.Book;
+import com.example.onlinebookstore.repository.SpecificationProvider;
+import java.math.BigDecimal;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PriceKeysetSpecificationProvider implements SpecificationProvider<Book> {
+    @Override
+    public String getKey() {
+        return "priceAfter";
+    }
+
+    @Override
+    public Specification<Book> getSpecification(String[] params) {
+        if (params.length != 2) {
+            throw new IllegalArgumentException(
+                    "Price cursor must contain price and id, but was: " + String.join(",", params));
+        }
+        BigDecimal price = new BigDecimal(params[0]);
+        Long id = Long.valueOf(params[1]);
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.greaterThan(root.get("price"), price),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get("price"), price),
+                        criteriaBuilder.greaterThan(root.get("id"), id)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.onlinebookstore.repository.specification;
+
+import com.example.onlinebookstore.model.Book;
+import com.example.onlinebookstore.repository.SpecificationProvider;
+import com.example.onlinebookstore.repository.book.BookSearchIndex;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class QuerySpecificationProvider implements SpecificationProvider<Book> {
+    private final BookSearchIndex searchIndex;
+
+    @Override
+    public String getKey() {
+        return "q";
+    }
+
+    @Override
+    public Specification<Book> getSpecification(String[] params) {
+        List<Long> rankedIds = searchIndex.search(String.join(" ", params));
+        return (root, query, criteriaBuilder) -> {
+            if (rankedIds.isEmpty()) {
+                return criteriaBuilder.disjunction();
+            }
+            Path<Long> id = root.get("id");
+            if (!Long.class.equals(query.getResultType())) {
+                CriteriaBuilder.SimpleCase<Long, Integer> rank = criteriaBuilder.selectCase(id);
+                for (int i = 0; i < rankedIds.size(); i++) {
+                    rank.when(rankedIds.get(i), i);
+                }
+                query.orderBy(criteriaBuilder.asc(rank.otherwise(rankedIds.size())));
+            }
+            return id.in(rankedIds);
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.onlinebookstore.repository.specification;
+
+import com.example.onlinebookstore.model.Book;
+import com.example.onlinebookstore.repository.SpecificationProvider;
+import java.util.Arrays;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TitleKeysetSpecificationProvider implements SpecificationProvider<Book> {
+    @Override
+    public String getKey() {
+        return "titleAfter";
+    }
+
+    @Override
+    public Specification<Book> getSpecification(String[] params) {
+        if (params.length < 2) {
+            throw new IllegalArgumentException(
+                    "Title cursor must contain title and id, but was: " + String.join(",", params));
+        }
+        String title = String.join(",", Arrays.copyOf(params, params.length - 1));
+        Long id = Long.valueOf(params[params.length - 1]);
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.greaterThan(root.get("title"), title),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get("title"), title),
+                        criteriaBuilder.greaterThan(root.get("id"), id)));
+    }
+}
@@ -1,26 +1,29 @@
 package com.example.onlinebookstore.security;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
-import java.util.function.Function;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtUtil {
     private Key secret;
+    private JwtParser parser;
     @Value("${jwt.expiration:3600000}")
     private Long expiration;
 
     public JwtUtil(@Value("${jwt.secret:teateateateateateateateateateatea}")
                    String secretString) {
         secret = Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(secret)
+                .build();
     }
 
     public String generateToken(String username) {
@@ -32,28 +35,24 @@ public class JwtUtil {
                 .compact();
     }
 
-    public boolean isTokenValid(String token) {
+    public Claims parseClaims(String token) {
         try {
-            Jws<Claims> claimsJws = Jwts.parserBuilder()
-                    .setSigningKey(secret)
-                    .build()
-                    .parseClaimsJws(token);
-            return claimsJws.getBody().getExpiration().after(new Date());
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (!claims.getExpiration().after(new Date())) {
+                throw new JwtException("Expired json web token");
+            }
+            return claims;
         } catch (JwtException | IllegalArgumentException e) {
             throw new JwtException("Invalid json web token");
         }
     }
 
-    public String getUsername(String token) {
-        return getClaimsFromToken(token, Claims::getSubject);
+    public boolean isTokenValid(String token) {
+        parseClaims(token);
+        return true;
     }
 
-    private <T> T getClaimsFromToken(String token, Function<Claims, T> function) {
-        final Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secret)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return function.apply(claims);
+    public String getUsername(String token) {
+        return parseClaims(token).getSubject();
     }
 }
@@ -0,0 +1,30 @@
+package com.example.onlinebookstore.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Date;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PrincipalCache {
+    private final Cache<Key, AuthenticatedUser> principals;
+
+    public PrincipalCache(@Value("${jwt.principal-cache.ttl:PT1M}") Duration ttl,
+                          @Value("${jwt.principal-cache.max-size:10000}") long maxSize) {
+        principals = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public AuthenticatedUser get(String username, Date issuedAt,
+                                 Function<String, AuthenticatedUser> loader) {
+        return principals.get(new Key(username, issuedAt), key -> loader.apply(username));
+    }
+
+    private record Key(String username, Date issuedAt) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.onlinebookstore.service.book;
+
+import com.example.onlinebookstore.dto.book.BookImportResultDto;
+import java.io.InputStream;
+
+public interface BookImportService {
+    BookImportResultDto importCsv(InputStream inputStream);
+
+    BookImportResultDto importNdjson(InputStream inputStream);
+}
@@ -3,7 +3,9 @@ package com.example.onlinebookstore.service.book;
 import com.example.onlinebookstore.dto.book.BookDto;
 import com.example.onlinebookstore.dto.book.BookDtoWithoutCategoryIds;
 import com.example.onlinebookstore.dto.book.BookSearchParametersDto;
+import com.example.onlinebookstore.dto.book.BookSliceDto;
 import com.example.onlinebookstore.dto.book.CreateBookRequestDto;
+import com.example.onlinebookstore.dto.version.ResourceTagDto;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 
@@ -14,11 +16,17 @@ public interface BookService {
 
     BookDto getBookById(Long id);
 
+    ResourceTagDto getBooksTag(Pageable pageable);
+
+    ResourceTagDto getBookTag(Long id);
+
     void deleteById(Long id);
 
     BookDto update(Long id, CreateBookRequestDto requestDto);
 
-    List<BookDto> searchBooks(BookSearchParametersDto searchParameters);
+    List<BookDto> searchBooks(BookSearchParametersDto searchParameters, Pageable pageable);
 
     List<BookDtoWithoutCategoryIds> findAllBooksByCategoryIds(Long categoryId, Pageable pageable);
+
+    BookSliceDto findBooksSliceByCategoryId(Long categoryId, Pageable pageable);
 }
@@ -0,0 +1,294 @@
+package com.example.onlinebookstore.service.book.impl;
+
+import com.example.onlinebookstore.dto.book.BookImportErrorDto;
+import com.example.onlinebookstore.dto.book.BookImportResultDto;
+import com.example.onlinebookstore.dto.book.CreateBookRequestDto;
+import com.example.onlinebookstore.mapper.BookMapper;
+import com.example.onlinebookstore.model.Book;
+import com.example.onlinebookstore.model.Category;
+import com.example.onlinebookstore.repository.book.BookIdFilter;
+import com.example.onlinebookstore.repository.book.BookRepository;
+import com.example.onlinebookstore.repository.book.BookSearchIndex;
+import com.example.onlinebookstore.repository.category.CategoryRepository;
+import com.example.onlinebookstore.service.book.BookImportService;
+import com.example.onlinebookstore.validation.BookImportChecks;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RequiredArgsConstructor
+@Service
+public class BookImportServiceImpl implements BookImportService {
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String CATEGORY_IDS_SEPARATOR = ";";
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("title", "author", "isbn", "price");
+    private final BookRepository bookRepository;
+    private final CategoryRepository categoryRepository;
+    private final BookMapper bookMapper;
+    private final BookSearchIndex searchIndex;
+    private final BookIdFilter bookIdFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "bookPages", allEntries = true),
+            @CacheEvict(cacheNames = "categoryBooks", allEntries = true)
+    })
+    public BookImportResultDto importCsv(InputStream inputStream) {
+        try (BufferedReader reader = newReader(inputStream)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV header is missing");
+            }
+            Map<String, Integer> columns = getColumns(header);
+            return importLines(reader, 1, line -> toRequest(splitCsvLine(line), columns));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read books to import", e);
+        }
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "bookPages", allEntries = true),
+            @CacheEvict(cacheNames = "categoryBooks", allEntries = true)
+    })
+    public BookImportResultDto importNdjson(InputStream inputStream) {
+        ObjectReader jsonReader = objectMapper.readerFor(CreateBookRequestDto.class);
+        try (BufferedReader reader = newReader(inputStream)) {
+            return importLines(reader, 0, line -> {
+                try {
+                    return jsonReader.readValue(line);
+                } catch (JsonProcessingException e) {
+                    throw new IllegalArgumentException(
+                            "Malformed JSON: " + e.getOriginalMessage());
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read books to import", e);
+        }
+    }
+
+    private BookImportResultDto importLines(BufferedReader reader, long linesRead,
+                                            Function<String, CreateBookRequestDto> parser)
+            throws IOException {
+        BookImportResultDto result = new BookImportResultDto();
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        long lineNumber = linesRead;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                chunk.add(new ImportRow(lineNumber, validate(parser.apply(line))));
+            } catch (IllegalArgumentException e) {
+                reject(result, lineNumber, e.getMessage());
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                importChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, result);
+        }
+        return result;
+    }
+
+    private void importChunk(List<ImportRow> rows, BookImportResultDto result) {
+        List<BookImportErrorDto> rejected = new ArrayList<>();
+        List<Book> books;
+        try {
+            books = transactionTemplate.execute(status -> saveChunk(rows, rejected));
+        } catch (DataAccessException e) {
+            rows.forEach(row -> reject(result, row.line(), "Chunk wasn't saved: "
+                    + e.getMostSpecificCause().getMessage()));
+            return;
+        }
+        rejected.forEach(error -> reject(result, error.line(), error.message()));
+        books.forEach(book -> {
+            bookIdFilter.add(book.getId());
+            searchIndex.index(book);
+        });
+        result.setImported(result.getImported() + books.size());
+    }
+
+    private List<Book> saveChunk(List<ImportRow> rows, List<BookImportErrorDto> rejected) {
+        Set<String> takenIsbns = new HashSet<>(bookRepository.findExistingIsbns(rows.stream()
+                .map(row -> row.request().getIsbn())
+                .collect(Collectors.toSet())));
+        Map<Long, Category> categories = getCategories(rows);
+        List<Book> books = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            CreateBookRequestDto request = row.request();
+            Set<Long> categoryIds = request.getCategoryIds() == null
+                    ? Set.of() : request.getCategoryIds();
+            Long missingCategoryId = categoryIds.stream()
+                    .filter(id -> !categories.containsKey(id))
+                    .findFirst()
+                    .orElse(null);
+            if (missingCategoryId != null) {
+                rejected.add(new BookImportErrorDto(row.line(),
+                        "There is no Category with id: " + missingCategoryId));
+                continue;
+            }
+            if (!takenIsbns.add(request.getIsbn())) {
+                rejected.add(new BookImportErrorDto(row.line(), "isbn must be unique"));
+                continue;
+            }
+            Book book = bookMapper.toModel(request);
+            categoryIds.forEach(id -> book.getCategories().add(categories.get(id)));
+            books.add(book);
+        }
+        bookRepository.saveAllAndFlush(books);
+        entityManager.clear();
+        return books;
+    }
+
+    private Map<Long, Category> getCategories(List<ImportRow> rows) {
+        Set<Long> ids = rows.stream()
+                .filter(row -> row.request().getCategoryIds() != null)
+                .flatMap(row -> row.request().getCategoryIds().stream())
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return categoryRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+    }
+
+    private CreateBookRequestDto validate(CreateBookRequestDto request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Book is missing");
+        }
+        Set<ConstraintViolation<CreateBookRequestDto>> violations =
+                validator.validate(request, BookImportChecks.class);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return request;
+    }
+
+    private void reject(BookImportResultDto result, long line, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new BookImportErrorDto(line, message));
+        }
+    }
+
+    private Map<String, Integer> getColumns(String header) {
+        List<String> names = splitCsvLine(header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IllegalArgumentException("CSV header must contain column: " + column);
+            }
+        }
+        return columns;
+    }
+
+    private CreateBookRequestDto toRequest(List<String> values, Map<String, Integer> columns) {
+        String price = getValue(values, columns, "price");
+        String categoryIds = getValue(values, columns, "categoryIds");
+        try {
+            return new CreateBookRequestDto()
+                    .setTitle(getValue(values, columns, "title"))
+                    .setAuthor(getValue(values, columns, "author"))
+                    .setIsbn(getValue(values, columns, "isbn"))
+                    .setPrice(price == null ? null : new BigDecimal(price))
+                    .setDescription(getValue(values, columns, "description"))
+                    .setCoverImage(getValue(values, columns, "coverImage"))
+                    .setCategoryIds(categoryIds == null ? null
+                            : Arrays.stream(categoryIds.split(CATEGORY_IDS_SEPARATOR))
+                                    .map(String::trim)
+                                    .map(Long::valueOf)
+                                    .collect(Collectors.toSet()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("price and categoryIds must be numeric");
+        }
+    }
+
+    private String getValue(List<String> values, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size() || values.get(index).isBlank()) {
+            return null;
+        }
+        return values.get(index).trim();
+    }
+
+    private List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append(c);
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted value");
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private static BufferedReader newReader(InputStream inputStream) {
+        return new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    private record ImportRow(long line, CreateBookRequestDto request) {
+    }
+}
@@ -3,24 +3,38 @@ package com.example.onlinebookstore.service.book.impl;
 import com.example.onlinebookstore.dto.book.BookDto;
 import com.example.onlinebookstore.dto.book.BookDtoWithoutCategoryIds;
 import com.example.onlinebookstore.dto.book.BookSearchParametersDto;
+import com.example.onlinebookstore.dto.book.BookSliceDto;
 import com.example.onlinebookstore.dto.book.CreateBookRequestDto;
+import com.example.onlinebookstore.dto.version.ResourceTagDto;
 import com.example.onlinebookstore.mapper.BookMapper;
 import com.example.onlinebookstore.model.Book;
 import com.example.onlinebookstore.model.Category;
+import com.example.onlinebookstore.repository.book.BookIdFilter;
 import com.example.onlinebookstore.repository.book.BookRepository;
+import com.example.onlinebookstore.repository.book.BookSearchIndex;
 import com.example.onlinebookstore.repository.book.BookSpecificationBuilder;
+import com.example.onlinebookstore.repository.cart.ShoppingCartRepository;
+import com.example.onlinebookstore.repository.category.CategoryIdFilter;
 import com.example.onlinebookstore.repository.category.CategoryRepository;
 import com.example.onlinebookstore.service.book.BookService;
 import jakarta.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
@@ -29,69 +43,164 @@ public class BookServiceImpl implements BookService {
     private final BookMapper bookMapper;
     private final BookSpecificationBuilder builder;
     private final CategoryRepository categoryRepository;
+    private final BookSearchIndex searchIndex;
+    private final BookIdFilter bookIdFilter;
+    private final CategoryIdFilter categoryIdFilter;
+    private final ShoppingCartRepository shoppingCartRepository;
 
     @Override
+    @Transactional
+    @Caching(
+            put = @CachePut(cacheNames = "books", key = "#result.id()"),
+            evict = {
+                    @CacheEvict(cacheNames = "bookPages", allEntries = true),
+                    @CacheEvict(cacheNames = "categoryBooks", allEntries = true)
+            }
+    )
     public BookDto save(CreateBookRequestDto request) {
         Book model = bookMapper.toModel(request);
         if (request.getCategoryIds() != null) {
-            getCategoriesByIds(request.getCategoryIds())
-                    .forEach(category -> category.addBook(model));
+            model.getCategories().addAll(getCategoriesByIds(request.getCategoryIds()));
         }
-        return bookMapper.toDto(bookRepository.save(model));
+        Book savedBook = bookRepository.save(model);
+        bookIdFilter.add(savedBook.getId());
+        searchIndex.index(savedBook);
+        return bookMapper.toDto(savedBook);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "bookPages")
     public List<BookDto> findAll(Pageable pageable) {
-        return bookRepository.findAll(pageable)
-                .stream()
-                .map(bookMapper::toDto)
-                .toList();
+        return bookRepository.findAllAsDto(Specification.where(null), pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "books", key = "#id")
     public BookDto getBookById(Long id) {
+        if (bookIdFilter.isDefinitelyAbsent(id)) {
+            throw new EntityNotFoundException("There is no Book with id: " + id);
+        }
         return bookRepository.findById(id).map(bookMapper::toDto)
                 .orElseThrow(() -> new EntityNotFoundException("There is no Book with id: " + id));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public ResourceTagDto getBooksTag(Pageable pageable) {
+        return ResourceTagDto.ofAll(bookRepository.findAllVersions(pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceTagDto getBookTag(Long id) {
+        if (bookIdFilter.isDefinitelyAbsent(id)) {
+            throw new EntityNotFoundException("There is no Book with id: " + id);
+        }
+        return bookRepository.findVersionById(id).map(ResourceTagDto::of)
+                .orElseThrow(() -> new EntityNotFoundException("There is no Book with id: " + id));
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "books", key = "#id"),
+            @CacheEvict(cacheNames = "bookPages", allEntries = true),
+            @CacheEvict(cacheNames = "categoryBooks", allEntries = true)
+    })
     public void deleteById(Long id) {
         bookRepository.deleteById(id);
+        searchIndex.remove(id);
     }
 
     @Override
+    @Transactional
+    @Caching(
+            put = @CachePut(cacheNames = "books", key = "#id"),
+            evict = {
+                    @CacheEvict(cacheNames = "bookPages", allEntries = true),
+                    @CacheEvict(cacheNames = "categoryBooks", allEntries = true)
+            }
+    )
     public BookDto update(Long id, CreateBookRequestDto request) {
+        if (bookIdFilter.isDefinitelyAbsent(id)) {
+            throw new EntityNotFoundException("There is no book with id: " + id);
+        }
         Optional<Book> optionalBook = bookRepository.findById(id);
         if (optionalBook.isPresent()) {
+            final BigDecimal oldPrice = optionalBook.get().getPrice();
             Book updatedBook = bookMapper
                     .updateBookModelFromBookDto(optionalBook.get(), request);
             updatedBook.setId(id);
             if (request.getCategoryIds() != null) {
-                getCategoriesByIds(request.getCategoryIds())
-                        .forEach(category -> category.addBook(updatedBook));
+                updatedBook.getCategories()
+                        .addAll(getCategoriesByIds(request.getCategoryIds()));
+            }
+            Book savedBook = bookRepository.save(updatedBook);
+            searchIndex.index(savedBook);
+            if (oldPrice == null || oldPrice.compareTo(savedBook.getPrice()) != 0) {
+                shoppingCartRepository.refreshSummariesByBookId(id);
             }
-            return bookMapper.toDto(bookRepository.save(updatedBook));
+            return bookMapper.toDto(savedBook);
         }
         throw new EntityNotFoundException("There is no book with id: " + id);
     }
 
     @Override
-    public List<BookDto> searchBooks(BookSearchParametersDto searchParameters) {
+    @Transactional(readOnly = true)
+    public List<BookDto> searchBooks(BookSearchParametersDto searchParameters,
+                                     Pageable pageable) {
+        if (searchParameters.q() != null && searchParameters.q().length > 0
+                && pageable.getOffset() >= BookSearchIndex.MAX_RESULTS) {
+            throw new IllegalArgumentException("Search by q is limited to the "
+                    + BookSearchIndex.MAX_RESULTS + " best matches, narrow the query");
+        }
         Specification<Book> specification = builder.build(searchParameters);
-        return bookRepository.findAll(specification)
-                .stream()
-                .map(bookMapper::toDto)
-                .toList();
+        Sort keysetSort = getKeysetSort(searchParameters);
+        if (keysetSort != null) {
+            return bookRepository.findAllAsDto(specification,
+                    PageRequest.of(0, pageable.getPageSize(), keysetSort));
+        }
+        return bookRepository.findAllAsDto(specification, pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "categoryBooks")
     public List<BookDtoWithoutCategoryIds> findAllBooksByCategoryIds(
             Long categoryId, Pageable pageable
     ) {
-        return bookRepository.findAllByCategoryIds(categoryId, pageable)
-                .stream()
-                .map(bookMapper::toDtoWithoutCategoryIds)
-                .toList();
+        if (categoryIdFilter.isDefinitelyAbsent(categoryId)) {
+            return List.of();
+        }
+        return List.copyOf(bookRepository.findAllByCategoryId(categoryId, pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookSliceDto findBooksSliceByCategoryId(Long categoryId, Pageable pageable) {
+        if (categoryIdFilter.isDefinitelyAbsent(categoryId)) {
+            return new BookSliceDto(List.of(), false);
+        }
+        return BookSliceDto.of(bookRepository.findSliceByCategoryId(categoryId, pageable));
+    }
+
+    private Sort getKeysetSort(BookSearchParametersDto searchParameters) {
+        boolean byPrice = searchParameters.priceAfter() != null
+                && searchParameters.priceAfter().length > 0;
+        boolean byTitle = searchParameters.titleAfter() != null
+                && searchParameters.titleAfter().length > 0;
+        if (byPrice && byTitle) {
+            throw new IllegalArgumentException(
+                    "Only one of priceAfter and titleAfter can be used at a time");
+        }
+        if (byPrice) {
+            return Sort.by("price", "id");
+        }
+        if (byTitle) {
+            return Sort.by("title", "id");
+        }
+        return null;
     }
 
     private Set<Category> getCategoriesByIds(Collection<Long> ids) {
@@ -4,10 +4,13 @@ import com.example.onlinebookstore.dto.cart.CartItemQuantityDto;
 import com.example.onlinebookstore.dto.cart.CartItemRequestDto;
 import com.example.onlinebookstore.dto.cart.CartItemResponseDto;
 import com.example.onlinebookstore.dto.cart.CartResponseDto;
+import com.example.onlinebookstore.dto.cart.CartSummaryDto;
 
 public interface ShoppingCartService {
     CartResponseDto getCartForCurrentUser();
 
+    CartSummaryDto getCartSummaryForCurrentUser();
+
     CartItemResponseDto addBookToCart(CartItemRequestDto request);
 
     CartItemResponseDto updateQuantityOfBook(Long bookId,
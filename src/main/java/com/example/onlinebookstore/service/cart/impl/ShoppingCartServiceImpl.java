@@ -4,23 +4,24 @@ import com.example.onlinebookstore.dto.cart.CartItemQuantityDto;
 import com.example.onlinebookstore.dto.cart.CartItemRequestDto;
 import com.example.onlinebookstore.dto.cart.CartItemResponseDto;
 import com.example.onlinebookstore.dto.cart.CartResponseDto;
+import com.example.onlinebookstore.dto.cart.CartSummaryDto;
 import com.example.onlinebookstore.mapper.CartItemMapper;
 import com.example.onlinebookstore.mapper.CartMapper;
-import com.example.onlinebookstore.model.Book;
 import com.example.onlinebookstore.model.CartItem;
 import com.example.onlinebookstore.model.ShoppingCart;
-import com.example.onlinebookstore.model.User;
 import com.example.onlinebookstore.repository.book.BookRepository;
 import com.example.onlinebookstore.repository.cart.ShoppingCartRepository;
 import com.example.onlinebookstore.repository.cartitem.CartItemRepository;
 import com.example.onlinebookstore.service.cart.ShoppingCartService;
 import com.example.onlinebookstore.service.user.UserService;
 import jakarta.persistence.EntityNotFoundException;
-import java.util.Optional;
+import java.math.BigDecimal;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -38,65 +39,102 @@ public class ShoppingCartServiceImpl implements ShoppingCartService {
         return convertToResponseDto(cart);
     }
 
+    @Override
+    public CartSummaryDto getCartSummaryForCurrentUser() {
+        return shoppingCartRepository.findSummaryByUserId(userService.getCurrentUserId())
+                .orElseGet(() -> new CartSummaryDto(0, 0, BigDecimal.ZERO));
+    }
+
     @Override
     public CartItemResponseDto addBookToCart(CartItemRequestDto request) {
-        ShoppingCart cart = getOrCreateShoppingCartForCurrentUser();
-        CartItem item = itemMapper.toModel(request);
-        item.setBook(findBookById(request.getBookId()));
-        cart.addItemToCart(item);
-        cartItemRepository.save(item);
-        return itemMapper.toDto(item);
+        Long cartId = getOrCreateShoppingCartIdForCurrentUser();
+        Long bookId = request.getBookId();
+        if (cartItemRepository.addQuantity(cartId, bookId, request.getQuantity()) == 0) {
+            insertCartItem(cartId, request);
+        }
+        shoppingCartRepository.refreshSummary(cartId);
+        return cartItemRepository.findByShoppingCartIdAndBookId(cartId, bookId)
+                .map(itemMapper::toDto)
+                .orElseThrow(() ->
+                        new EntityNotFoundException("There is no Book with id: " + bookId));
     }
 
     @Override
+    @Transactional
     public CartItemResponseDto updateQuantityOfBook(
             Long itemId,
             CartItemQuantityDto request
     ) {
-        CartItem item = findCartItemById(itemId);
-        item.setQuantity(request.getQuantity());
-        return itemMapper.toDto(cartItemRepository.save(item));
+        Long userId = userService.getCurrentUserId();
+        int updated = cartItemRepository.updateQuantityByIdAndUserId(
+                itemId, userId, request.getQuantity());
+        if (updated == 0) {
+            throw getNotOwnedItemException(itemId, "update");
+        }
+        refreshSummaryByUserId(userId);
+        return cartItemRepository.findWithBookById(itemId)
+                .map(itemMapper::toDto)
+                .orElseThrow(() ->
+                        new EntityNotFoundException("There is no Item with id: " + itemId));
     }
 
     @Override
+    @Transactional
     public void deleteItemFromShoppingCart(Long id) {
-        CartItem cartItem = findCartItemById(id);
-        User user = userService.getCurrentUser();
-        if (!cartItem.getShoppingCart().getUser().equals(user)) {
-            throw new AccessDeniedException(
-                    "You are not allowed to delete Cart Item with id: " + id
-            );
+        Long userId = userService.getCurrentUserId();
+        if (cartItemRepository.deleteByIdAndUserId(id, userId) == 0) {
+            throw getNotOwnedItemException(id, "delete");
         }
-        cartItemRepository.delete(cartItem);
+        refreshSummaryByUserId(userId);
     }
 
-    private ShoppingCart getOrCreateShoppingCartForCurrentUser() {
-        User user = userService.getCurrentUser();
-        Optional<ShoppingCart> cart =
-                shoppingCartRepository.findByUser(user);
-        if (cart.isEmpty()) {
-            ShoppingCart newCart = new ShoppingCart();
-            newCart.setUser(user);
-            return shoppingCartRepository.save(newCart);
+    private void insertCartItem(Long cartId, CartItemRequestDto request) {
+        if (!bookRepository.existsById(request.getBookId())) {
+            throw new EntityNotFoundException("There is no Book with id: " + request.getBookId());
+        }
+        CartItem item = itemMapper.toModel(request)
+                .setShoppingCart(shoppingCartRepository.getReferenceById(cartId))
+                .setBook(bookRepository.getReferenceById(request.getBookId()));
+        try {
+            cartItemRepository.saveAndFlush(item);
+        } catch (DataIntegrityViolationException e) {
+            cartItemRepository.addQuantity(cartId, request.getBookId(), request.getQuantity());
         }
-        return cart.get();
     }
 
-    private Book findBookById(Long bookId) {
-        return bookRepository.findById(bookId)
-                .orElseThrow(() ->
-                        new EntityNotFoundException("There is no Book with id: " + bookId));
+    private void refreshSummaryByUserId(Long userId) {
+        shoppingCartRepository.findIdByUserId(userId)
+                .ifPresent(shoppingCartRepository::refreshSummary);
     }
 
-    private CartItem findCartItemById(Long itemId) {
-        return cartItemRepository.findById(itemId)
-                .orElseThrow(() ->
-                        new EntityNotFoundException("There is no Item with id: " + itemId));
+    private Long getOrCreateShoppingCartIdForCurrentUser() {
+        return shoppingCartRepository.findIdByUserId(userService.getCurrentUserId())
+                .orElseGet(() -> createShoppingCartForCurrentUser().getId());
+    }
+
+    private ShoppingCart createShoppingCartForCurrentUser() {
+        ShoppingCart newCart = new ShoppingCart();
+        newCart.setUser(userService.getCurrentUserReference());
+        return shoppingCartRepository.save(newCart);
+    }
+
+    private ShoppingCart getOrCreateShoppingCartForCurrentUser() {
+        return shoppingCartRepository.findByUserId(userService.getCurrentUserId())
+                .orElseGet(this::createShoppingCartForCurrentUser);
+    }
+
+    private RuntimeException getNotOwnedItemException(Long itemId, String action) {
+        if (cartItemRepository.existsById(itemId)) {
+            return new AccessDeniedException(
+                    "You are not allowed to " + action + " Cart Item with id: " + itemId
+            );
+        }
+        return new EntityNotFoundException("There is no Item with id: " + itemId);
     }
 
     private CartResponseDto convertToResponseDto(ShoppingCart cart) {
         CartResponseDto dto = cartMapper.toDto(cart);
-        dto.setUserId(userService.getCurrentUser().getId());
+        dto.setUserId(cart.getUser().getId());
         dto.setItems(cart.getCartItems()
                 .stream()
                 .map(itemMapper::toDto)
@@ -2,6 +2,7 @@ package com.example.onlinebookstore.service.category;
 
 import com.example.onlinebookstore.dto.category.CategoryRequestDto;
 import com.example.onlinebookstore.dto.category.CategoryResponseDto;
+import com.example.onlinebookstore.dto.version.ResourceTagDto;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 
@@ -10,6 +11,10 @@ public interface CategoryService {
 
     CategoryResponseDto getById(Long id);
 
+    ResourceTagDto getCategoriesTag(Pageable pageable);
+
+    ResourceTagDto getCategoryTag(Long id);
+
     CategoryResponseDto save(CategoryRequestDto request);
 
     CategoryResponseDto update(Long id, CategoryRequestDto request);
@@ -2,24 +2,35 @@ package com.example.onlinebookstore.service.category.impl;
 
 import com.example.onlinebookstore.dto.category.CategoryRequestDto;
 import com.example.onlinebookstore.dto.category.CategoryResponseDto;
+import com.example.onlinebookstore.dto.version.ResourceTagDto;
 import com.example.onlinebookstore.mapper.CategoryMapper;
 import com.example.onlinebookstore.model.Category;
+import com.example.onlinebookstore.repository.book.BookRepository;
+import com.example.onlinebookstore.repository.category.CategoryIdFilter;
 import com.example.onlinebookstore.repository.category.CategoryRepository;
 import com.example.onlinebookstore.service.category.CategoryService;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
 public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final CategoryIdFilter categoryIdFilter;
+    private final BookRepository bookRepository;
 
     @Override
+    @Cacheable(cacheNames = "categoryPages")
     public List<CategoryResponseDto> findAll(Pageable pageable) {
         return categoryRepository.findAll(pageable).stream()
                 .map(categoryMapper::toDto)
@@ -27,7 +38,11 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @Cacheable(cacheNames = "categories", key = "#id")
     public CategoryResponseDto getById(Long id) {
+        if (categoryIdFilter.isDefinitelyAbsent(id)) {
+            throw new EntityNotFoundException("Couldn't find Category by id: " + id);
+        }
         return categoryMapper.toDto(
                 categoryRepository.findById(id).orElseThrow(() ->
                         new EntityNotFoundException("Couldn't find Category by id: " + id))
@@ -35,14 +50,42 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public ResourceTagDto getCategoriesTag(Pageable pageable) {
+        return ResourceTagDto.ofAll(categoryRepository.findAllVersions(pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceTagDto getCategoryTag(Long id) {
+        if (categoryIdFilter.isDefinitelyAbsent(id)) {
+            throw new EntityNotFoundException("Couldn't find Category by id: " + id);
+        }
+        return categoryRepository.findVersionById(id).map(ResourceTagDto::of)
+                .orElseThrow(() ->
+                        new EntityNotFoundException("Couldn't find Category by id: " + id));
+    }
+
+    @Override
+    @Caching(
+            put = @CachePut(cacheNames = "categories", key = "#result.id()"),
+            evict = @CacheEvict(cacheNames = "categoryPages", allEntries = true)
+    )
     public CategoryResponseDto save(CategoryRequestDto request) {
-        return categoryMapper.toDto(
-                categoryRepository.save(categoryMapper.toModel(request))
-        );
+        Category savedCategory = categoryRepository.save(categoryMapper.toModel(request));
+        categoryIdFilter.add(savedCategory.getId());
+        return categoryMapper.toDto(savedCategory);
     }
 
     @Override
+    @Caching(
+            put = @CachePut(cacheNames = "categories", key = "#id"),
+            evict = @CacheEvict(cacheNames = "categoryPages", allEntries = true)
+    )
     public CategoryResponseDto update(Long id, CategoryRequestDto request) {
+        if (categoryIdFilter.isDefinitelyAbsent(id)) {
+            throw new EntityNotFoundException("Couldn't find Category by id: " + id);
+        }
         Optional<Category> optionalCategory = categoryRepository.findById(id);
         if (optionalCategory.isPresent()) {
             Category category = categoryMapper
@@ -56,7 +99,14 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "categories", key = "#id"),
+            @CacheEvict(cacheNames = "categoryPages", allEntries = true),
+            @CacheEvict(cacheNames = {"books", "bookPages", "categoryBooks"}, allEntries = true)
+    })
+    @Transactional
     public void deleteById(Long id) {
         categoryRepository.deleteById(id);
+        bookRepository.touchByCategoryId(id);
     }
 }
@@ -0,0 +1,11 @@
+package com.example.onlinebookstore.service.export;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface ExportService {
+    void exportBooks(ExportFormat format, OutputStream outputStream);
+
+    void exportOrders(LocalDateTime from, LocalDateTime to,
+                      ExportFormat format, OutputStream outputStream);
+}
@@ -0,0 +1,89 @@
+package com.example.onlinebookstore.service.export.impl;
+
+import com.example.onlinebookstore.dto.book.BookExportRowDto;
+import com.example.onlinebookstore.dto.order.OrderExportRowDto;
+import com.example.onlinebookstore.repository.book.BookRepository;
+import com.example.onlinebookstore.repository.order.OrderRepository;
+import com.example.onlinebookstore.service.export.ExportFormat;
+import com.example.onlinebookstore.service.export.ExportService;
+import com.example.onlinebookstore.service.export.ExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Service
+public class ExportServiceImpl implements ExportService {
+    private static final List<String> BOOK_COLUMNS = List.of("id", "title", "author", "isbn",
+            "price", "description", "coverImage", "categoryIds");
+    private static final List<String> ORDER_COLUMNS = List.of("orderId", "userId", "orderDate",
+            "status", "total", "shippingAddress", "orderItemId", "bookId", "quantity", "price");
+    private final BookRepository bookRepository;
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportBooks(ExportFormat format, OutputStream outputStream) {
+        try (Stream<BookExportRowDto> rows = bookRepository.streamAllForExport()) {
+            ExportWriter writer = new ExportWriter(outputStream, format, objectMapper,
+                    BOOK_COLUMNS);
+            Iterator<BookExportRowDto> iterator = rows.iterator();
+            BookExportRowDto book = null;
+            List<Long> categoryIds = new ArrayList<>();
+            while (iterator.hasNext()) {
+                BookExportRowDto row = iterator.next();
+                if (book != null && !book.id().equals(row.id())) {
+                    writeBook(writer, book, categoryIds);
+                    categoryIds.clear();
+                }
+                book = row;
+                if (row.categoryId() != null) {
+                    categoryIds.add(row.categoryId());
+                }
+            }
+            if (book != null) {
+                writeBook(writer, book, categoryIds);
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't export books", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportOrders(LocalDateTime from, LocalDateTime to,
+                             ExportFormat format, OutputStream outputStream) {
+        try (Stream<OrderExportRowDto> rows = orderRepository.streamForExport(from, to)) {
+            ExportWriter writer = new ExportWriter(outputStream, format, objectMapper,
+                    ORDER_COLUMNS);
+            Iterator<OrderExportRowDto> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                OrderExportRowDto row = iterator.next();
+                writer.write(Arrays.asList(row.orderId(), row.userId(), row.orderDate(),
+                        row.status(), row.total(), row.shippingAddress(), row.orderItemId(),
+                        row.bookId(), row.quantity(), row.price()));
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't export orders", e);
+        }
+    }
+
+    private void writeBook(ExportWriter writer, BookExportRowDto book,
+                           List<Long> categoryIds) throws IOException {
+        writer.write(Arrays.asList(book.id(), book.title(), book.author(), book.isbn(),
+                book.price(), book.description(), book.coverImage(), categoryIds));
+    }
+}
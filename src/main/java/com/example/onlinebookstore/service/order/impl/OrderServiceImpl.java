@@ -7,22 +7,26 @@ import com.example.onlinebookstore.dto.order.OrderStatusDto;
 import com.example.onlinebookstore.mapper.OrderItemMapper;
 import com.example.onlinebookstore.mapper.OrderMapper;
 import com.example.onlinebookstore.model.Order;
-import com.example.onlinebookstore.model.OrderItem;
 import com.example.onlinebookstore.model.ShoppingCart;
-import com.example.onlinebookstore.model.User;
 import com.example.onlinebookstore.repository.cart.ShoppingCartRepository;
+import com.example.onlinebookstore.repository.cartitem.CartItemRepository;
 import com.example.onlinebookstore.repository.order.OrderRepository;
 import com.example.onlinebookstore.repository.orderitem.OrderItemRepository;
 import com.example.onlinebookstore.service.order.OrderService;
 import com.example.onlinebookstore.service.user.UserService;
 import jakarta.persistence.EntityNotFoundException;
-import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
@@ -30,37 +34,70 @@ public class OrderServiceImpl implements OrderService {
     private final OrderRepository orderRepository;
     private final ShoppingCartRepository shoppingCartRepository;
     private final OrderItemRepository orderItemRepository;
+    private final CartItemRepository cartItemRepository;
     private final OrderMapper orderMapper;
     private final OrderItemMapper orderItemMapper;
     private final UserService userService;
 
     @Override
+    @Transactional(readOnly = true)
     public List<OrderResponseDto> getOrdersForCurrentUser(Pageable pageable) {
-        return orderRepository.getOrdersByUser(userService.getCurrentUser(), pageable)
+        Pageable stablePageable = PageRequest.of(pageable.getPageNumber(),
+                pageable.getPageSize(), pageable.getSort().and(Sort.by("id")));
+        List<Long> ids = orderRepository.findIdsByUserId(
+                userService.getCurrentUserId(), stablePageable);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Order> orders = orderRepository.findAllWithItemsByIdIn(ids)
                 .stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        return ids.stream()
+                .map(orders::get)
                 .map(this::convertToDtoOrderAndSetItemsDto)
                 .toList();
     }
 
     @Override
+    @Transactional
     public OrderResponseDto createOrder(OrderRequestDto request) {
-        ShoppingCart cart = getShoppingCartByUser(userService.getCurrentUser());
+        Long userId = userService.getCurrentUserId();
+        ShoppingCart cart = lockShoppingCartByUserId(userId);
+        if (cart.getCartItems().isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Shopping Cart for User with id: " + userId + " is empty");
+        }
         Order order = new Order();
-        order.setUser(userService.getCurrentUser());
+        order.setUser(userService.getCurrentUserReference());
         cart.getCartItems().stream()
                 .map(orderItemMapper::convertCartItemToOrderItem)
                 .forEach(item -> item.addOrder(order));
-        order.setTotal(getTotal(order));
+        order.setTotal(OrderTotals.of(order.getOrderItems()));
         order.setShippingAddress(request.getShippingAddress());
         orderItemRepository.saveAll(orderRepository.save(order).getOrderItems());
+        cartItemRepository.deleteAllByShoppingCartId(cart.getId());
+        shoppingCartRepository.refreshSummary(cart.getId());
         return convertToDtoOrderAndSetItemsDto(order);
     }
 
     @Override
+    @Transactional
     public OrderResponseDto updateOrderStatus(Long id, OrderStatusDto statusDto) {
-        Order order = getOrderById(id);
-        order.setStatus(statusDto.getStatus());
-        return convertToDtoOrderAndSetItemsDto(orderRepository.save(order));
+        OrderResponseDto order = orderRepository.findResponseById(id)
+                .orElseThrow(() ->
+                        new EntityNotFoundException("There is no Order with id: " + id));
+        Long version = order.getVersion();
+        if (statusDto.getVersion() != null && !statusDto.getVersion().equals(version)) {
+            throw concurrentModification(id);
+        }
+        if (!order.getStatus().canTransitionTo(statusDto.getStatus())) {
+            throw new IllegalArgumentException("Order with id: " + id
+                    + " can't move from " + order.getStatus() + " to " + statusDto.getStatus());
+        }
+        if (orderRepository.updateStatus(id, statusDto.getStatus(), version) == 0) {
+            throw concurrentModification(id);
+        }
+        return order.setStatus(statusDto.getStatus()).setVersion(version + 1);
     }
 
     @Override
@@ -75,10 +112,7 @@ public class OrderServiceImpl implements OrderService {
     @Override
     public OrderItemResponseDto getOrderItemByOrderAndItemIds(Long orderId, Long itemId) {
         accessVerifyForOrderId(orderId);
-        return getOrderById(orderId).getOrderItems()
-                .stream()
-                .filter(item -> item.getId().equals(itemId))
-                .findFirst()
+        return orderItemRepository.findByIdAndOrderId(itemId, orderId)
                 .map(orderItemMapper::toDto)
                 .orElseThrow(() ->
                         new EntityNotFoundException(
@@ -97,26 +131,13 @@ public class OrderServiceImpl implements OrderService {
         return response;
     }
 
-    private BigDecimal multiplyQuantityByPrice(OrderItem item) {
-        BigDecimal price = item.getPrice();
-        int quantity = item.getQuantity();
-        return price.multiply(BigDecimal.valueOf(quantity));
-    }
-
-    private BigDecimal getTotal(Order order) {
-        BigDecimal total = BigDecimal.ZERO;
-        for (OrderItem item : order.getOrderItems()) {
-            total = total.add(multiplyQuantityByPrice(item));
-        }
-        return total;
-    }
-
-    private ShoppingCart getShoppingCartByUser(User user) {
-        return shoppingCartRepository.findByUser(user)
+    private ShoppingCart lockShoppingCartByUserId(Long userId) {
+        return shoppingCartRepository.findForUpdateByUserId(userId)
+                .flatMap(cart -> shoppingCartRepository.findByUserId(userId))
                 .orElseThrow(() ->
                         new EntityNotFoundException(
                                 "There is no Shopping Cart for User with id: "
-                                        + user.getId()
+                                        + userId
                         ));
     }
 
@@ -126,8 +147,13 @@ public class OrderServiceImpl implements OrderService {
                         new EntityNotFoundException("There is no Order with id: " + id));
     }
 
+    private ObjectOptimisticLockingFailureException concurrentModification(Long id) {
+        return new ObjectOptimisticLockingFailureException(Order.class, id,
+                "Order with id: " + id + " was modified concurrently", null);
+    }
+
     private void accessVerifyForOrderId(Long id) {
-        boolean exists = orderRepository.existsByIdAndUser(id, userService.getCurrentUser());
+        boolean exists = orderRepository.existsByIdAndUserId(id, userService.getCurrentUserId());
         if (!exists) {
             throw new AccessDeniedException("Your are not allowed to Order with id: " + id);
         }
@@ -0,0 +1,18 @@
+package com.example.onlinebookstore.service.order.impl;
+
+import com.example.onlinebookstore.model.OrderItem;
+import java.math.BigDecimal;
+import java.util.Collection;
+
+public final class OrderTotals {
+    private OrderTotals() {
+    }
+
+    public static BigDecimal of(Collection<OrderItem> items) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (OrderItem item : items) {
+            total = total.add(item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
+        }
+        return total;
+    }
+}
@@ -10,4 +10,8 @@ public interface UserService {
             throws RegistrationException;
 
     User getCurrentUser();
+
+    Long getCurrentUserId();
+
+    User getCurrentUserReference();
 }
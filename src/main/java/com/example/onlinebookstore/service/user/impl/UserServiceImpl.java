@@ -8,6 +8,7 @@ import com.example.onlinebookstore.model.Role;
 import com.example.onlinebookstore.model.User;
 import com.example.onlinebookstore.repository.role.RoleRepository;
 import com.example.onlinebookstore.repository.user.UserRepository;
+import com.example.onlinebookstore.security.AuthenticatedUser;
 import com.example.onlinebookstore.service.user.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.HashSet;
@@ -57,10 +58,22 @@ public class UserServiceImpl implements UserService {
                 .getContext()
                 .getAuthentication()
                 .getPrincipal();
-        return userRepository.findByEmail(
-                userDetails.getUsername()).orElseThrow(() ->
+        return userRepository.findByEmail(userDetails.getUsername()).orElseThrow(() ->
                 new EntityNotFoundException("There is no User with email: "
-                        + userDetails.getUsername())
-        );
+                        + userDetails.getUsername()));
+    }
+
+    @Override
+    public Long getCurrentUserId() {
+        if (SecurityContextHolder.getContext().getAuthentication().getPrincipal()
+                instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser.id();
+        }
+        return getCurrentUser().getId();
+    }
+
+    @Override
+    public User getCurrentUserReference() {
+        return userRepository.getReferenceById(getCurrentUserId());
     }
 }
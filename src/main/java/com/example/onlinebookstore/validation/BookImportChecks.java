@@ -0,0 +1,5 @@
+package com.example.onlinebookstore.validation;
+
+/** Validation group for bulk imports, which skip the ISBN format check. */
+public interface BookImportChecks {
+}
@@ -9,6 +9,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.example.onlinebookstore.dto.book.BookDto;
 import com.example.onlinebookstore.dto.book.CreateBookRequestDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.util.ArrayList;
@@ -16,8 +17,12 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.sql.DataSource;
 import lombok.SneakyThrows;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -46,6 +51,7 @@ class BookControllerTest {
     private static final Long ID_FOUR = 4L;
     private static final Long ID_FIVE = 5L;
     private static final Long ID_SIX = 6L;
+    private static final int BOOKS_TO_IMPORT = 120;
     private static BookDto firstExpected;
     private static BookDto secondExpected;
     private static BookDto thirdExpected;
@@ -53,6 +59,8 @@ class BookControllerTest {
     private static BookDto fifthExpected;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @BeforeAll
     static void beforeAll(
@@ -127,13 +135,15 @@ class BookControllerTest {
                 .setIsbn("235153151")
                 .setPrice(BigDecimal.valueOf(42.5))
                 .setCategoryIds(new HashSet<>(Set.of(ID_ONE)));
-        BookDto expected = new BookDto()
-                .setId(ID_SIX)
-                .setAuthor(request.getAuthor())
-                .setTitle(request.getTitle())
-                .setIsbn(request.getIsbn())
-                .setPrice(request.getPrice())
-                .setCategoryIds(new HashSet<>(Set.of(ID_ONE)));
+        BookDto expected = new BookDto(
+                ID_SIX,
+                request.getTitle(),
+                request.getAuthor(),
+                request.getIsbn(),
+                request.getPrice(),
+                null,
+                null,
+                Set.of(ID_ONE));
 
         String jsonRequest = objectMapper.writeValueAsString(request);
         MvcResult result = mockMvc.perform(
@@ -171,6 +181,77 @@ class BookControllerTest {
         Assertions.assertEquals(secondExpected, actual);
     }
 
+    @Test
+    @WithMockUser(username = "user", authorities = {"USER"})
+    @DisplayName("""
+            Must check the page version, then load books and their category ids
+            without N+1 selects
+            """)
+    void getAll_SqlStatementCount_Ok() throws Exception {
+        Statistics statistics = getStatistics();
+
+        mockMvc.perform(get("/books")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        Assertions.assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @WithMockUser(username = "user", authorities = {"USER"})
+    @DisplayName("""
+            Must check the book version, then load it with its category ids in one select
+            """)
+    void getBookById_SqlStatementCount_Ok() throws Exception {
+        Statistics statistics = getStatistics();
+
+        mockMvc.perform(get("/books/2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    @Sql(scripts = "classpath:database/book/delete-imported-books.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("""
+            Must import a chunk with one isbn check, one category select
+            and one insert per batch of 50 rows
+            """)
+    void importNdjson_ManyBooks_SqlStatementCount_Ok() throws Exception {
+        String content = IntStream.range(0, BOOKS_TO_IMPORT)
+                .mapToObj(i -> new CreateBookRequestDto()
+                        .setTitle("Title " + i)
+                        .setAuthor("Author " + i)
+                        .setIsbn("import-" + i)
+                        .setPrice(BigDecimal.TEN)
+                        .setCategoryIds(Set.of(ID_ONE, ID_TWO)))
+                .map(this::toJson)
+                .collect(Collectors.joining("\n"));
+        Statistics statistics = getStatistics();
+
+        mockMvc.perform(post("/books/import")
+                        .contentType("application/x-ndjson")
+                        .content(content))
+                .andExpect(status().isOk());
+
+        Assertions.assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @SneakyThrows
+    private String toJson(CreateBookRequestDto request) {
+        return objectMapper.writeValueAsString(request);
+    }
+
+    private Statistics getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
     @Test
     @Sql(scripts = "classpath:database/book/add-book-to-delete.sql",
             executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
@@ -207,13 +288,15 @@ class BookControllerTest {
                 .setIsbn("135613616")
                 .setPrice(BigDecimal.valueOf(52.05))
                 .setCategoryIds(new HashSet<>(Set.of(ID_THREE)));
-        BookDto expected = new BookDto()
-                .setId(ID_SIX)
-                .setAuthor(updateRequest.getAuthor())
-                .setTitle(updateRequest.getTitle())
-                .setIsbn(updateRequest.getIsbn())
-                .setPrice(updateRequest.getPrice())
-                .setCategoryIds(new HashSet<>(Set.of(ID_THREE)));
+        BookDto expected = new BookDto(
+                ID_SIX,
+                updateRequest.getTitle(),
+                updateRequest.getAuthor(),
+                updateRequest.getIsbn(),
+                updateRequest.getPrice(),
+                null,
+                null,
+                Set.of(ID_THREE));
 
         String jsonRequest = objectMapper.writeValueAsString(updateRequest);
         MvcResult result = mockMvc.perform(
@@ -258,53 +341,63 @@ class BookControllerTest {
     }
 
     private static BookDto createFirstExpectedBook() {
-        return new BookDto()
-                .setId(ID_ONE)
-                .setTitle("Red Riding Hood")
-                .setAuthor("Brothers Grimm")
-                .setIsbn("51351354315")
-                .setPrice(BigDecimal.valueOf(44))
-                .setCategoryIds(new HashSet<>(Set.of(ID_TWO)));
+        return new BookDto(
+                ID_ONE,
+                "Red Riding Hood",
+                "Brothers Grimm",
+                "51351354315",
+                BigDecimal.valueOf(44),
+                null,
+                null,
+                Set.of(ID_TWO));
     }
 
     private static BookDto createSecondExpectedBook() {
-        return new BookDto()
-                .setId(ID_TWO)
-                .setTitle("Snow White")
-                .setAuthor("Brothers Grimm")
-                .setIsbn("315613616")
-                .setPrice(BigDecimal.valueOf(33))
-                .setCategoryIds(new HashSet<>(Set.of(ID_ONE, ID_TWO)));
+        return new BookDto(
+                ID_TWO,
+                "Snow White",
+                "Brothers Grimm",
+                "315613616",
+                BigDecimal.valueOf(33),
+                null,
+                null,
+                Set.of(ID_ONE, ID_TWO));
     }
 
     private static BookDto createThirdExpectedBook() {
-        return new BookDto()
-                .setId(ID_THREE)
-                .setTitle("Sherlock Holmes")
-                .setAuthor("Conan Doyle")
-                .setIsbn("262462462624")
-                .setPrice(BigDecimal.valueOf(55))
-                .setCategoryIds(new HashSet<>(Set.of(ID_ONE)));
+        return new BookDto(
+                ID_THREE,
+                "Sherlock Holmes",
+                "Conan Doyle",
+                "262462462624",
+                BigDecimal.valueOf(55),
+                null,
+                null,
+                Set.of(ID_ONE));
     }
 
     private static BookDto createFourthExpectedBook() {
-        return new BookDto()
-                .setId(ID_FOUR)
-                .setTitle("Pride And Prejudice")
-                .setAuthor("Jane Austen")
-                .setIsbn("32624624624")
-                .setPrice(BigDecimal.valueOf(22))
-                .setCategoryIds(new HashSet<>(Set.of(ID_THREE)));
+        return new BookDto(
+                ID_FOUR,
+                "Pride And Prejudice",
+                "Jane Austen",
+                "32624624624",
+                BigDecimal.valueOf(22),
+                null,
+                null,
+                Set.of(ID_THREE));
     }
 
     private static BookDto createFifthExpectedBook() {
-        return new BookDto()
-                .setId(ID_FIVE)
-                .setTitle("Fairy tail")
-                .setAuthor("Stephen King")
-                .setIsbn("3562624626")
-                .setPrice(BigDecimal.valueOf(66))
-                .setCategoryIds(new HashSet<>(Set.of(ID_ONE)));
+        return new BookDto(
+                ID_FIVE,
+                "Fairy tail",
+                "Stephen King",
+                "3562624626",
+                BigDecimal.valueOf(66),
+                null,
+                null,
+                Set.of(ID_ONE));
     }
 
     @SneakyThrows
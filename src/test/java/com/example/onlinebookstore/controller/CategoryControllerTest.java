@@ -9,10 +9,13 @@ import com.example.onlinebookstore.dto.book.BookDtoWithoutCategoryIds;
 import com.example.onlinebookstore.dto.category.CategoryRequestDto;
 import com.example.onlinebookstore.dto.category.CategoryResponseDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -42,6 +45,8 @@ class CategoryControllerTest {
     private static CategoryResponseDto thirdExpected;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @BeforeAll
     static void beforeAll(
@@ -71,8 +76,10 @@ class CategoryControllerTest {
     void save_ValidRequest_Ok() throws Exception {
         CategoryRequestDto request = new CategoryRequestDto()
                 .setName("category to save");
-        CategoryResponseDto expected = new CategoryResponseDto()
-                .setName(request.getName());
+        CategoryResponseDto expected = new CategoryResponseDto(
+                null,
+                request.getName(),
+                null);
 
         String jsonRequest = objectMapper.writeValueAsString(request);
 
@@ -127,6 +134,34 @@ class CategoryControllerTest {
         assertThat(expected).isEqualTo(Arrays.stream(actual).toList());
     }
 
+    @Test
+    @WithMockUser(username = "user", authorities = {"USER"})
+    void getAll_SqlStatementCount_Ok() throws Exception {
+        Statistics statistics = getStatistics();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/categories")
+                        .contentType(MediaType.APPLICATION_JSON)
+        )
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @WithMockUser(username = "user", authorities = {"USER"})
+    void getById_SqlStatementCount_Ok() throws Exception {
+        Statistics statistics = getStatistics();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/categories/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+        )
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
     @Test
     @WithMockUser(username = "admin", authorities = {"ADMIN"})
     @Sql(scripts = "classpath:database/category/add-category-with-id-4.sql",
@@ -136,9 +171,10 @@ class CategoryControllerTest {
     void update_ValidRequest_Ok() throws Exception {
         CategoryRequestDto request = new CategoryRequestDto()
                 .setName("biography");
-        CategoryResponseDto expected = new CategoryResponseDto()
-                .setId(ID_FOUR)
-                .setName(request.getName());
+        CategoryResponseDto expected = new CategoryResponseDto(
+                ID_FOUR,
+                request.getName(),
+                null);
         String jsonRequest = objectMapper.writeValueAsString(request);
         MvcResult result = mockMvc.perform(
                 MockMvcRequestBuilders.put("/categories/4")
@@ -181,26 +217,32 @@ class CategoryControllerTest {
             executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     void findAllByCategoryIds_ValidRequest_Ok() throws Exception {
         BookDtoWithoutCategoryIds firstBookExpected =
-                new BookDtoWithoutCategoryIds()
-                .setId(ID_TWO)
-                .setTitle("Snow White")
-                .setAuthor("Brothers Grimm")
-                .setIsbn("315613616")
-                .setPrice(BigDecimal.valueOf(33));
+                new BookDtoWithoutCategoryIds(
+                        ID_TWO,
+                        "Snow White",
+                        "Brothers Grimm",
+                        "315613616",
+                        BigDecimal.valueOf(33),
+                        null,
+                        null);
         BookDtoWithoutCategoryIds secondBookExpected =
-                new BookDtoWithoutCategoryIds()
-                .setId(ID_THREE)
-                .setTitle("Sherlock Holmes")
-                .setAuthor("Conan Doyle")
-                .setIsbn("262462462624")
-                .setPrice(BigDecimal.valueOf(55));
+                new BookDtoWithoutCategoryIds(
+                        ID_THREE,
+                        "Sherlock Holmes",
+                        "Conan Doyle",
+                        "262462462624",
+                        BigDecimal.valueOf(55),
+                        null,
+                        null);
         BookDtoWithoutCategoryIds thirdBookExpected =
-                new BookDtoWithoutCategoryIds()
-                .setId(ID_FIVE)
-                .setTitle("Fairy tail")
-                .setAuthor("Stephen King")
-                .setIsbn("3562624626")
-                .setPrice(BigDecimal.valueOf(66));
+                new BookDtoWithoutCategoryIds(
+                        ID_FIVE,
+                        "Fairy tail",
+                        "Stephen King",
+                        "3562624626",
+                        BigDecimal.valueOf(66),
+                        null,
+                        null);
         List<BookDtoWithoutCategoryIds> expected =
                 List.of(firstBookExpected, secondBookExpected, thirdBookExpected);
 
@@ -217,24 +259,53 @@ class CategoryControllerTest {
         assertThat(Arrays.stream(actual).toList()).isEqualTo(expected);
     }
 
+    @Test
+    @WithMockUser(username = "user", authorities = {"USER"})
+    @Sql(scripts = "classpath:database/book/add-five-books.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/book/add-categories-to-books.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/book/delete-book-category-connection.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @Sql(scripts = "classpath:database/book/delete-books.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void findAllByCategoryIds_SqlStatementCount_Ok() throws Exception {
+        Statistics statistics = getStatistics();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.get("/categories/1/books")
+                        .contentType(MediaType.APPLICATION_JSON)
+        )
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
     private static CategoryResponseDto createFirstCategoryResponse() {
-        return new CategoryResponseDto()
-                .setId(ID_ONE)
-                .setName("fantasy")
-                .setDescription("actions cannot be returned in the real world");
+        return new CategoryResponseDto(
+                ID_ONE,
+                "fantasy",
+                "actions cannot be returned in the real world");
     }
 
     private static CategoryResponseDto createSecondCategoryResponse() {
-        return new CategoryResponseDto()
-                .setId(ID_TWO)
-                .setName("fairy tail")
-                .setDescription("short stories for children");
+        return new CategoryResponseDto(
+                ID_TWO,
+                "fairy tail",
+                "short stories for children");
     }
 
     private static CategoryResponseDto createThirdCategoryResponse() {
-        return new CategoryResponseDto()
-                .setId(ID_THREE)
-                .setName("romance")
-                .setDescription("story about lovers");
+        return new CategoryResponseDto(
+                ID_THREE,
+                "romance",
+                "story about lovers");
+    }
+
+    private Statistics getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        return statistics;
     }
 }
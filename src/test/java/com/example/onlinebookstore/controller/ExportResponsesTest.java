@@ -0,0 +1,43 @@
+package com.example.onlinebookstore.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.onlinebookstore.service.export.ExportFormat;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+class ExportResponsesTest {
+    private static final String ROW = "{\"id\":1}\n";
+
+    @Test
+    @DisplayName("""
+            Must stream an attachment with the configured timeout
+            """)
+    void stream_ValidExport_AttachmentWithTimeout() throws Exception {
+        ExportResponses exportResponses = new ExportResponses(Duration.ofMinutes(5));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        WebAsyncTask<Void> task = exportResponses.stream("books", ExportFormat.NDJSON,
+                response, outputStream -> {
+                    try {
+                        outputStream.write(ROW.getBytes(StandardCharsets.UTF_8));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        task.getCallable().call();
+
+        assertThat(task.getTimeout()).isEqualTo(5 * 60 * 1000L);
+        assertThat(response.getContentType()).isEqualTo("application/x-ndjson");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION))
+                .isEqualTo("attachment; filename=\"books.ndjson\"");
+        assertThat(response.getContentAsString()).isEqualTo(ROW);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.onlinebookstore.controller;
 import static com.example.onlinebookstore.controller.BookControllerTest.addBooks;
 import static com.example.onlinebookstore.controller.BookControllerTest.deleteBooks;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -14,7 +15,9 @@ import com.example.onlinebookstore.dto.order.OrderRequestDto;
 import com.example.onlinebookstore.dto.order.OrderResponseDto;
 import com.example.onlinebookstore.dto.order.OrderStatusDto;
 import com.example.onlinebookstore.model.Order;
+import com.example.onlinebookstore.security.AuthenticatedUser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.util.Arrays;
@@ -23,6 +26,8 @@ import java.util.List;
 import java.util.Set;
 import javax.sql.DataSource;
 import lombok.SneakyThrows;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -32,6 +37,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
@@ -51,6 +57,8 @@ public class OrderControllerTest {
     private static final Long ID_SIX = 6L;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @BeforeAll
     static void beforeAll(
@@ -116,6 +124,24 @@ public class OrderControllerTest {
                 Arrays.stream(actual).toList().get(0), expectedOrder, "orderDate");
     }
 
+    @Test
+    @DisplayName("""
+            Must page order ids, then load the Orders with their items in one select
+            """)
+    void getOrders_SqlStatementCount_Ok() throws Exception {
+        Statistics statistics = getStatistics();
+
+        mockMvc.perform(
+                        get("/orders")
+                                .with(user(new AuthenticatedUser(ID_TWO, "admin@com",
+                                        List.of(new SimpleGrantedAuthority("ADMIN")), true)))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
     @Test
     @Sql(scripts = "classpath:database/order/change-status-to-old.sql",
             executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
@@ -204,6 +230,43 @@ public class OrderControllerTest {
         EqualsBuilder.reflectionEquals(actual, expectedOrder, "id");
     }
 
+    @Test
+    @Sql(scripts = {"classpath:database/cart/create-new-cart.sql",
+            "classpath:database/cartitem/create-five-cart-items.sql"},
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"classpath:database/cartitem/delete-cart-3-items.sql",
+            "classpath:database/cart/delete-cart-3.sql",
+            "classpath:database/order/delete-address-04-orders.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("""
+            Must lock and load the cart, then insert the Order and all its items
+            with one batched statement
+            """)
+    void createOrder_FiveItems_SqlStatementCount_Ok() throws Exception {
+        OrderRequestDto request = new OrderRequestDto();
+        request.setShippingAddress("address 04");
+        String jsonString = objectMapper.writeValueAsString(request);
+        Statistics statistics = getStatistics();
+
+        mockMvc.perform(
+                        post("/orders")
+                                .with(user(new AuthenticatedUser(ID_ONE, "user@com",
+                                        List.of(new SimpleGrantedAuthority("USER")), true)))
+                                .content(jsonString)
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+    }
+
+    private Statistics getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
     @Test
     @WithMockUser(username = "user@com", authorities = {"USER"})
     @DisplayName("""
@@ -5,6 +5,7 @@ import static com.example.onlinebookstore.controller.BookControllerTest.deleteBo
 import static com.example.onlinebookstore.controller.OrderControllerTest.addUsers;
 import static com.example.onlinebookstore.controller.OrderControllerTest.deleteUsers;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -16,12 +17,17 @@ import com.example.onlinebookstore.dto.cart.CartItemQuantityDto;
 import com.example.onlinebookstore.dto.cart.CartItemRequestDto;
 import com.example.onlinebookstore.dto.cart.CartItemResponseDto;
 import com.example.onlinebookstore.dto.cart.CartResponseDto;
+import com.example.onlinebookstore.security.AuthenticatedUser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
 import java.sql.Connection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import javax.sql.DataSource;
 import lombok.SneakyThrows;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -31,6 +37,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
@@ -48,6 +55,8 @@ class ShoppingCartControllerTest {
     private static final Long ID_FIVE = 5L;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @BeforeAll
     static void beforeAll(
@@ -111,6 +120,26 @@ class ShoppingCartControllerTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("""
+            Must load the cart with its items and books in one select
+            """)
+    void getCart_SqlStatementCount_Ok() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(
+                        get("/cart")
+                                .with(user(new AuthenticatedUser(ID_TWO, "admin@com",
+                                        List.of(new SimpleGrantedAuthority("ADMIN")), true)))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
     @Test
     @Sql(scripts = "classpath:database/cartitem/delete-cart-item-6.sql",
             executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
@@ -0,0 +1,69 @@
+package com.example.onlinebookstore.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+class RequestMetricsFilterTest {
+    private static final String ENDPOINT = "String.length";
+    private MeterRegistry meterRegistry;
+    private RequestMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestMetricsFilter(meterRegistry, Duration.ZERO, 1);
+    }
+
+    @Test
+    @DisplayName("""
+            Must record statements and entity loads of a request under its endpoint
+            """)
+    void doFilter_StatementsAndLoads_RecordedPerEndpoint() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/books/1");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            try {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                        new HandlerMethod("book", String.class.getMethod("length")));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+            SqlMetricsInspector inspector = new SqlMetricsInspector();
+            inspector.inspect("select b1_0.id from books b1_0 where b1_0.id=?");
+            inspector.inspect("select c1_0.id from categories c1_0");
+            new EntityLoadInterceptor().onLoad(new Object(), (Object) 1L, null, null, null);
+        });
+
+        assertThat(meterRegistry.get("request.sql.statements")
+                .tag("endpoint", ENDPOINT).summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get("request.entity.loads")
+                .tag("endpoint", ENDPOINT).summary().totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("request.jdbc.time")
+                .tag("endpoint", ENDPOINT).timer().count()).isEqualTo(1);
+        assertThat(RequestMetrics.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("""
+            Must not record statements issued outside of a request
+            """)
+    void inspect_OutsideRequest_Ignored() throws Exception {
+        new SqlMetricsInspector().inspect("select 1");
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                (req, res) -> { });
+
+        assertThat(meterRegistry.get("request.sql.statements")
+                .tag("endpoint", "unmapped").summary().totalAmount()).isZero();
+    }
+}
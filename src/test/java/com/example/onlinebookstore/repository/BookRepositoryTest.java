@@ -1,23 +1,40 @@
 package com.example.onlinebookstore.repository;
 
+import com.example.onlinebookstore.dto.book.BookDto;
+import com.example.onlinebookstore.dto.book.BookDtoWithoutCategoryIds;
 import com.example.onlinebookstore.model.Book;
 import com.example.onlinebookstore.repository.book.BookRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.jdbc.Sql;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 class BookRepositoryTest {
     private static final Long ID_ONE = 1L;
+    private static final int BOOKS_TO_SAVE = 120;
     @Autowired
     private BookRepository bookRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @Test
     @Sql(scripts = {"classpath:database/book/add-five-books.sql",
@@ -32,11 +49,88 @@ class BookRepositoryTest {
             Find all books by valid category id
             """)
     void findAllByCategoryId_CategoryIdIsValid_NotEmptyList() {
-        Page<Book> actual = bookRepository.findAllByCategoryIds(
+        List<BookDtoWithoutCategoryIds> actual = bookRepository.findAllByCategoryId(
                 ID_ONE, PageRequest.of(0, 5));
-        Assertions.assertEquals(3, actual.toList().size());
-        Assertions.assertEquals("Snow White", actual.toList().get(0).getTitle());
-        Assertions.assertEquals("Sherlock Holmes", actual.toList().get(1).getTitle());
-        Assertions.assertEquals("Fairy tail", actual.toList().get(2).getTitle());
+        Assertions.assertEquals(3, actual.size());
+        Assertions.assertEquals("Snow White", actual.get(0).title());
+        Assertions.assertEquals("Sherlock Holmes", actual.get(1).title());
+        Assertions.assertEquals("Fairy tail", actual.get(2).title());
+    }
+
+    @Test
+    @Sql(scripts = {"classpath:database/book/add-five-books.sql",
+            "classpath:database/category/add-three-categories.sql",
+            "classpath:database/book/add-categories-to-books.sql"},
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"classpath:database/book/delete-book-category-connection.sql",
+            "classpath:database/book/delete-books.sql",
+            "classpath:database/category/delete-categories.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("""
+            Find a slice of books by category id without a count query
+            """)
+    void findSliceByCategoryId_FirstSlice_HasNextWithoutCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        Slice<BookDtoWithoutCategoryIds> actual = bookRepository.findSliceByCategoryId(
+                ID_ONE, PageRequest.of(0, 2));
+
+        Assertions.assertEquals(2, actual.getNumberOfElements());
+        Assertions.assertTrue(actual.hasNext());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Sql(scripts = {"classpath:database/book/add-five-books.sql",
+            "classpath:database/category/add-three-categories.sql",
+            "classpath:database/book/add-categories-to-books.sql"},
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"classpath:database/book/delete-book-category-connection.sql",
+            "classpath:database/book/delete-books.sql",
+            "classpath:database/category/delete-categories.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("""
+            Find a page of book DTOs with category ids without loading entities
+            """)
+    void findAllAsDto_FirstPage_CategoryIdsInTwoQueries() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<BookDto> actual = bookRepository.findAllAsDto(Specification.where(null),
+                PageRequest.of(0, 2, Sort.by("id")));
+
+        Assertions.assertEquals(2, actual.size());
+        Assertions.assertEquals("Red Riding Hood", actual.get(0).title());
+        Assertions.assertEquals(Set.of(2L), actual.get(0).categoryIds());
+        Assertions.assertEquals(Set.of(1L, 2L), actual.get(1).categoryIds());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @Sql(scripts = "classpath:database/book/delete-books.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("""
+            Must insert many books through one batched insert statement
+            """)
+    void saveAll_ManyBooks_BatchedStatements() {
+        List<Book> books = IntStream.range(0, BOOKS_TO_SAVE)
+                .mapToObj(i -> new Book()
+                        .setTitle("Title " + i)
+                        .setAuthor("Author " + i)
+                        .setIsbn("isbn-batch-" + i)
+                        .setPrice(BigDecimal.TEN))
+                .toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        bookRepository.saveAll(books);
+        entityManager.flush();
+
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
     }
 }
@@ -0,0 +1,83 @@
+package com.example.onlinebookstore.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.onlinebookstore.model.Book;
+import com.example.onlinebookstore.repository.book.BookRepository;
+import com.example.onlinebookstore.repository.book.BookSearchIndex;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class BookSearchIndexTest {
+    private static final Long ID_ONE = 1L;
+    private static final Long ID_TWO = 2L;
+    private static final Long ID_THREE = 3L;
+    private BookSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new BookSearchIndex(Mockito.mock(BookRepository.class));
+        searchIndex.index(new Book().setId(ID_ONE)
+                .setTitle("Sherlock Holmes").setAuthor("Conan Doyle"));
+        searchIndex.index(new Book().setId(ID_TWO)
+                .setTitle("Snow White").setAuthor("Brothers Grimm"));
+        searchIndex.index(new Book().setId(ID_THREE)
+                .setTitle("The Return of Sherlock Holmes").setAuthor("Arthur Conan Doyle"));
+    }
+
+    @Test
+    @DisplayName("""
+            Must find books by partial, multi-word query
+            """)
+    void search_PartialWords_Ok() {
+        List<Long> actual = searchIndex.search("sherl holm");
+
+        assertThat(actual).containsExactlyInAnyOrder(ID_ONE, ID_THREE);
+    }
+
+    @Test
+    @DisplayName("""
+            Must tolerate a single typo in a query word
+            """)
+    void search_Misspelled_Ok() {
+        List<Long> actual = searchIndex.search("Snaw");
+
+        assertThat(actual).containsExactly(ID_TWO);
+    }
+
+    @Test
+    @DisplayName("""
+            Must not match a query word two edits away from every indexed word
+            """)
+    void search_TwoTypos_NoMatch() {
+        List<Long> actual = searchIndex.search("Smaw");
+
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    @DisplayName("""
+            Must rank books matching more words first
+            """)
+    void search_MoreMatchedWords_RankedFirst() {
+        List<Long> actual = searchIndex.search("return sherlock");
+
+        assertThat(actual).containsExactly(ID_THREE, ID_ONE);
+    }
+
+    @Test
+    @DisplayName("""
+            Must reflect updated and removed books
+            """)
+    void search_AfterUpdateAndRemove_Ok() {
+        searchIndex.index(new Book().setId(ID_ONE)
+                .setTitle("Fairy tail").setAuthor("Stephen King"));
+        searchIndex.remove(ID_THREE);
+
+        assertThat(searchIndex.search("sherlock")).isEmpty();
+        assertThat(searchIndex.search("fairy")).containsExactly(ID_ONE);
+    }
+}
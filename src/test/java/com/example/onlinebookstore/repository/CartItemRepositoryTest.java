@@ -0,0 +1,61 @@
+package com.example.onlinebookstore.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.onlinebookstore.model.CartItem;
+import com.example.onlinebookstore.repository.book.BookRepository;
+import com.example.onlinebookstore.repository.cart.ShoppingCartRepository;
+import com.example.onlinebookstore.repository.cartitem.CartItemRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CartItemRepositoryTest {
+    private static final Long CART_ID = 1L;
+    private static final Long BOOK_ID = 1L;
+    @Autowired
+    private CartItemRepository cartItemRepository;
+    @Autowired
+    private ShoppingCartRepository shoppingCartRepository;
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Test
+    @Sql(scripts = {"classpath:database/user/add-users.sql",
+            "classpath:database/cart/add-carts.sql",
+            "classpath:database/book/add-five-books.sql",
+            "classpath:database/cartitem/add-cart-items.sql"},
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"classpath:database/cartitem/delete-cart-items.sql",
+            "classpath:database/cart/delete-carts.sql",
+            "classpath:database/book/delete-books.sql",
+            "classpath:database/user/delete-users.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("""
+            Must reject a second item for the same cart and book and add to the first one
+            """)
+    void saveAndFlush_DuplicateCartAndBook_RejectedThenQuantityAdded() {
+        CartItem duplicate = new CartItem()
+                .setShoppingCart(shoppingCartRepository.getReferenceById(CART_ID))
+                .setBook(bookRepository.getReferenceById(BOOK_ID))
+                .setQuantity(3);
+
+        assertThatThrownBy(() -> cartItemRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        int updated = cartItemRepository.addQuantity(CART_ID, BOOK_ID, 3);
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(cartItemRepository.findByShoppingCartIdAndBookId(CART_ID, BOOK_ID))
+                .hasValueSatisfying(item -> assertThat(item.getQuantity()).isEqualTo(5));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.onlinebookstore.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IdBloomFilterTest {
+    private static final long EXPECTED_IDS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    @DisplayName("""
+            Must always report added ids as possibly present
+            """)
+    void mightContain_AddedIds_True() {
+        IdBloomFilter filter = new IdBloomFilter(EXPECTED_IDS, FALSE_POSITIVE_RATE);
+        LongStream.rangeClosed(1, EXPECTED_IDS).forEach(filter::add);
+
+        assertThat(LongStream.rangeClosed(1, EXPECTED_IDS).allMatch(filter::mightContain))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("""
+            Must keep false positives close to the configured rate
+            """)
+    void mightContain_MissingIds_MostlyFalse() {
+        IdBloomFilter filter = new IdBloomFilter(EXPECTED_IDS, FALSE_POSITIVE_RATE);
+        LongStream.rangeClosed(1, EXPECTED_IDS).forEach(filter::add);
+
+        long falsePositives = LongStream.rangeClosed(EXPECTED_IDS + 1, EXPECTED_IDS * 11)
+                .filter(filter::mightContain)
+                .count();
+
+        assertThat(falsePositives).isLessThan((long) (EXPECTED_IDS * 10 * FALSE_POSITIVE_RATE * 2));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.onlinebookstore.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class LiveIdFilterTest {
+    private static final Long STORED_ID = 1L;
+    private static final Long SAVED_DURING_REBUILD_ID = 2L;
+    private static final Long MISSING_ID = 3L;
+    private Runnable onSnapshot;
+    private LiveIdFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        onSnapshot = () -> { };
+        filter = new LiveIdFilter() {
+            @Override
+            protected long countIds() {
+                onSnapshot.run();
+                return 1;
+            }
+
+            @Override
+            protected Stream<Long> streamAllIds() {
+                return Stream.of(STORED_ID);
+            }
+        };
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(filter, "minCapacity", 100L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            Must keep an id saved after the rebuild snapshot opened
+            """)
+    void rebuild_IdAddedAfterSnapshot_NotAbsent() {
+        onSnapshot = () -> filter.add(SAVED_DURING_REBUILD_ID);
+
+        filter.rebuild();
+
+        assertThat(filter.isDefinitelyAbsent(STORED_ID)).isFalse();
+        assertThat(filter.isDefinitelyAbsent(SAVED_DURING_REBUILD_ID)).isFalse();
+        assertThat(filter.isDefinitelyAbsent(MISSING_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("""
+            Must add an id saved in a transaction only after the commit
+            """)
+    void add_ActiveTransaction_AddedAfterCommit() {
+        filter.rebuild();
+        TransactionSynchronizationManager.initSynchronization();
+
+        filter.add(SAVED_DURING_REBUILD_ID);
+        assertThat(filter.isDefinitelyAbsent(SAVED_DURING_REBUILD_ID)).isTrue();
+        List<TransactionSynchronization> synchronizations =
+                TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(filter.isDefinitelyAbsent(SAVED_DURING_REBUILD_ID)).isFalse();
+    }
+}
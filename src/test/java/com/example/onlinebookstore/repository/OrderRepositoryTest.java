@@ -10,8 +10,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import com.example.onlinebookstore.model.Order;
 import com.example.onlinebookstore.model.User;
 import com.example.onlinebookstore.repository.order.OrderRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import java.math.BigDecimal;
+import java.util.List;
 import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -19,18 +24,23 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.jdbc.Sql;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 class OrderRepositoryTest {
     private static final Long ID_ONE = 1L;
+    private static final Long ID_TWO = 2L;
     private static final Long INVALID_ID = 12L;
     private static User user;
 
     @Autowired
     private OrderRepository orderRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @BeforeAll
     static void beforeAll(@Autowired DataSource dataSource) {
@@ -56,20 +66,49 @@ class OrderRepositoryTest {
     @DisplayName("""
             Must return valid order
             """)
-    void getOrdersByUser_ValidUser_Ok() {
-        Page<Order> actual = orderRepository.getOrdersByUser(user,
+    void findIdsByUserId_ValidUser_Ok() {
+        List<Long> ids = orderRepository.findIdsByUserId(user.getId(),
                 PageRequest.of(0, 5));
-        assertEquals(1, actual.stream().toList().size());
-        assertEquals(BigDecimal.valueOf(231), actual.toList().get(0).getTotal());
-        assertEquals("address 08", actual.toList().get(0).getShippingAddress());
+        List<Order> actual = orderRepository.findAllWithItemsByIdIn(ids);
+        assertEquals(1, actual.size());
+        assertEquals(BigDecimal.valueOf(231), actual.get(0).getTotal());
+        assertEquals("address 08", actual.get(0).getShippingAddress());
+    }
+
+    @Test
+    @Sql(scripts = {"classpath:database/book/add-five-books.sql",
+            "classpath:database/orderitem/add-order-items.sql"},
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"classpath:database/orderitem/delete-order-items.sql",
+            "classpath:database/book/delete-books.sql"},
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("""
+            Must load orders with items and books in one query regardless of page size
+            """)
+    void findAllWithItemsByIdIn_MoreOrders_SameStatementCount() {
+        long singleOrder = countStatementsToLoadOrders(List.of(ID_ONE));
+        long twoOrders = countStatementsToLoadOrders(List.of(ID_ONE, ID_TWO));
+        assertEquals(1, singleOrder);
+        assertEquals(singleOrder, twoOrders);
     }
 
     @Test
     @DisplayName("""
             Must return false for invalid Id
             """)
-    void existsByIdAndUser_ValidUserButNotId_False() {
-        boolean actual = orderRepository.existsByIdAndUser(INVALID_ID, user);
+    void existsByIdAndUserId_ValidUserButNotId_False() {
+        boolean actual = orderRepository.existsByIdAndUserId(INVALID_ID, user.getId());
         assertFalse(actual);
     }
+
+    private long countStatementsToLoadOrders(List<Long> ids) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        orderRepository.findAllWithItemsByIdIn(ids)
+                .forEach(order -> order.getOrderItems()
+                        .forEach(item -> item.getBook().getTitle()));
+        return statistics.getPrepareStatementCount();
+    }
 }
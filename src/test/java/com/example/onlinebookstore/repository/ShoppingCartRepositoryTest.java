@@ -30,14 +30,14 @@ class ShoppingCartRepositoryTest {
     @DisplayName("""
             Must return valid cart
             """)
-    void findByUser_ValidUser_Ok() {
+    void findByUserId_ValidUser_Ok() {
         User user = new User()
                 .setId(ID_ONE)
                 .setEmail("user@com")
                 .setPassword("$2a$10$LprrKOtVTKQh8tzSYOnb8eL8xCHZ.CtSP587Egm2KLTq94pEHwgpi")
                 .setFirstName("user")
                 .setLastName("fin");
-        Optional<ShoppingCart> cart = shoppingCartRepository.findByUser(user);
+        Optional<ShoppingCart> cart = shoppingCartRepository.findByUserId(user.getId());
         assertThat(cart).isNotEmpty();
         assertThat(cart.get().getId()).isEqualTo(1L);
         assertThat(cart.get().getUser()).isEqualTo(user);
@@ -0,0 +1,154 @@
+package com.example.onlinebookstore.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.onlinebookstore.dto.book.BookImportErrorDto;
+import com.example.onlinebookstore.dto.book.BookImportResultDto;
+import com.example.onlinebookstore.dto.book.CreateBookRequestDto;
+import com.example.onlinebookstore.mapper.BookMapper;
+import com.example.onlinebookstore.model.Book;
+import com.example.onlinebookstore.model.Category;
+import com.example.onlinebookstore.repository.book.BookIdFilter;
+import com.example.onlinebookstore.repository.book.BookRepository;
+import com.example.onlinebookstore.repository.book.BookSearchIndex;
+import com.example.onlinebookstore.repository.category.CategoryRepository;
+import com.example.onlinebookstore.service.book.impl.BookImportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class BookImportServiceTest {
+    private static final Long CATEGORY_ID = 1L;
+    private static final String EXISTING_ISBN = "315613616";
+
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private BookMapper bookMapper;
+    @Mock
+    private BookSearchIndex searchIndex;
+    @Mock
+    private BookIdFilter bookIdFilter;
+    @Mock
+    private EntityManager entityManager;
+    @Spy
+    private TransactionTemplate transactionTemplate =
+            new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class));
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    @InjectMocks
+    private BookImportServiceImpl bookImportService;
+
+    @Test
+    @DisplayName("""
+            Must save valid CSV rows and report invalid ones by line
+            """)
+    void importCsv_MixedRows_ValidSavedInvalidReported() {
+        when(bookRepository.findExistingIsbns(anyCollection()))
+                .thenReturn(Set.of(EXISTING_ISBN));
+        when(categoryRepository.findAllById(Set.of(CATEGORY_ID, 7L)))
+                .thenReturn(List.of(new Category().setId(CATEGORY_ID)));
+        when(bookMapper.toModel(any(CreateBookRequestDto.class)))
+                .thenAnswer(invocation -> new Book());
+
+        BookImportResultDto actual = bookImportService.importCsv(toStream("""
+                title,author,isbn,price,categoryIds
+                "Sherlock Holmes, Vol. 1",Conan Doyle,262462462624,55,1
+                Snow White,Brothers Grimm,315613616,33,
+                Rapunzel,Brothers Grimm,2151513513,,1
+                Fairy tail,Stephen King,3562624626,66,7
+                Pride And Prejudice,Jane Austen,32624624624,22,
+                """));
+
+        assertThat(actual.getImported()).isEqualTo(2);
+        assertThat(actual.getFailed()).isEqualTo(3);
+        assertThat(actual.getErrors()).containsExactlyInAnyOrder(
+                new BookImportErrorDto(3, "isbn must be unique"),
+                new BookImportErrorDto(4, "price must not be null"),
+                new BookImportErrorDto(5, "There is no Category with id: 7"));
+        verify(bookRepository).findExistingIsbns(anyCollection());
+        verify(searchIndex, times(2)).index(any(Book.class));
+    }
+
+    @Test
+    @DisplayName("""
+            Must reject repeated ISBNs and malformed lines in NDJSON
+            """)
+    void importNdjson_DuplicateAndMalformedRows_Reported() {
+        when(bookRepository.findExistingIsbns(anyCollection())).thenReturn(Set.of());
+        when(bookMapper.toModel(any(CreateBookRequestDto.class)))
+                .thenAnswer(invocation -> new Book());
+
+        BookImportResultDto actual = bookImportService.importNdjson(toStream("""
+                {"title":"Snow White","author":"Brothers Grimm","isbn":"1","price":33}
+                {"title":"Snow White","author":"Brothers Grimm","isbn":"1","price":33}
+                {"title":
+                """));
+
+        assertThat(actual.getImported()).isEqualTo(1);
+        assertThat(actual.getFailed()).isEqualTo(2);
+        assertThat(actual.getErrors()).extracting(BookImportErrorDto::line)
+                .containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("""
+            Must reject a chunk that fails on flush and keep importing the next one
+            """)
+    void importNdjson_ChunkFailsOnFlush_ChunkRejectedImportContinues() {
+        when(bookRepository.findExistingIsbns(anyCollection())).thenReturn(Set.of());
+        when(bookMapper.toModel(any(CreateBookRequestDto.class)))
+                .thenAnswer(invocation -> new Book());
+        when(bookRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry for isbn"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        StringBuilder lines = new StringBuilder();
+        for (int i = 1; i <= 1500; i++) {
+            lines.append("{\"title\":\"Book\",\"author\":\"Author\",\"isbn\":\"")
+                    .append(i)
+                    .append("\",\"price\":10}\n");
+        }
+
+        BookImportResultDto actual = bookImportService.importNdjson(toStream(lines.toString()));
+
+        assertThat(actual.getImported()).isEqualTo(500);
+        assertThat(actual.getFailed()).isEqualTo(1000);
+        assertThat(actual.getErrors()).hasSize(100)
+                .extracting(BookImportErrorDto::message)
+                .containsOnly("Chunk wasn't saved: Duplicate entry for isbn");
+        verify(bookRepository, times(2)).saveAllAndFlush(anyList());
+        verify(searchIndex, times(500)).index(any(Book.class));
+    }
+
+    private InputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
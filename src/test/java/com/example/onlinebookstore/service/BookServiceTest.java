@@ -1,6 +1,7 @@
 package com.example.onlinebookstore.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -8,16 +9,24 @@ import static org.mockito.Mockito.when;
 import com.example.onlinebookstore.dto.book.BookDto;
 import com.example.onlinebookstore.dto.book.BookDtoWithoutCategoryIds;
 import com.example.onlinebookstore.dto.book.BookSearchParametersDto;
+import com.example.onlinebookstore.dto.book.BookSliceDto;
 import com.example.onlinebookstore.dto.book.CreateBookRequestDto;
+import com.example.onlinebookstore.dto.version.ResourceTagDto;
+import com.example.onlinebookstore.dto.version.ResourceVersionDto;
 import com.example.onlinebookstore.mapper.BookMapper;
 import com.example.onlinebookstore.model.Book;
 import com.example.onlinebookstore.model.Category;
+import com.example.onlinebookstore.repository.book.BookIdFilter;
 import com.example.onlinebookstore.repository.book.BookRepository;
+import com.example.onlinebookstore.repository.book.BookSearchIndex;
 import com.example.onlinebookstore.repository.book.BookSpecificationBuilder;
+import com.example.onlinebookstore.repository.cart.ShoppingCartRepository;
+import com.example.onlinebookstore.repository.category.CategoryIdFilter;
 import com.example.onlinebookstore.repository.category.CategoryRepository;
 import com.example.onlinebookstore.service.book.impl.BookServiceImpl;
 import jakarta.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -32,10 +41,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 
 @ExtendWith(MockitoExtension.class)
@@ -62,6 +70,14 @@ class BookServiceTest {
     private BookMapper bookMapper;
     @Mock
     private BookSpecificationBuilder builder;
+    @Mock
+    private BookSearchIndex searchIndex;
+    @Mock
+    private BookIdFilter bookIdFilter;
+    @Mock
+    private CategoryIdFilter categoryIdFilter;
+    @Mock
+    private ShoppingCartRepository shoppingCartRepository;
     @InjectMocks
     private BookServiceImpl bookService;
 
@@ -92,6 +108,7 @@ class BookServiceTest {
         assertThat(actual).isEqualTo(firstExpected);
         verify(bookMapper, Mockito.times(1)).toModel(firstRequest);
         verify(bookRepository, Mockito.times(1)).save(firstBook);
+        verify(searchIndex, Mockito.times(1)).index(firstBook);
         verify(categoryRepository, Mockito.times(1)).findById(VALID_ID_ONE);
         verify(bookMapper, Mockito.times(1)).toDto(firstBook);
         verifyNoMoreInteractions(bookRepository, bookMapper, categoryRepository);
@@ -103,23 +120,19 @@ class BookServiceTest {
             """)
     void findAll_TwoBooks_Ok() {
         Pageable pageable = PageRequest.of(0, 5);
-        List<Book> books = new ArrayList<>(List.of(firstBook, secondBook));
-        Page<Book> page = new PageImpl<>(books, pageable, books.size());
+        List<BookDto> expected = new ArrayList<>(List.of(firstExpected, secondExpected));
 
-        when(bookRepository.findAll(pageable)).thenReturn(page);
-        when(bookMapper.toDto(firstBook)).thenReturn(firstExpected);
-        when(bookMapper.toDto(secondBook)).thenReturn(secondExpected);
+        when(bookRepository.findAllAsDto(Mockito.<Specification<Book>>any(), eq(pageable)))
+                .thenReturn(expected);
 
-        List<BookDto> expected = new ArrayList<>(List.of(firstExpected, secondExpected));
         List<BookDto> actual = bookService.findAll(pageable);
 
         assertThat(actual).isNotNull();
         assertThat(actual).hasSize(2);
         assertThat(actual).isEqualTo(expected);
 
-        verify(bookRepository, Mockito.times(1)).findAll(pageable);
-        verify(bookMapper, Mockito.times(1)).toDto(firstBook);
-        verify(bookMapper, Mockito.times(1)).toDto(secondBook);
+        verify(bookRepository, Mockito.times(1))
+                .findAllAsDto(Mockito.<Specification<Book>>any(), eq(pageable));
         verifyNoMoreInteractions(bookRepository, bookMapper);
     }
 
@@ -147,7 +160,8 @@ class BookServiceTest {
         bookService.deleteById(VALID_ID_FOUR);
         verify(bookRepository,
                 Mockito.times(1)).deleteById(VALID_ID_FOUR);
-        verifyNoMoreInteractions(bookRepository);
+        verify(searchIndex, Mockito.times(1)).remove(VALID_ID_FOUR);
+        verifyNoMoreInteractions(bookRepository, searchIndex);
     }
 
     @Test
@@ -161,13 +175,15 @@ class BookServiceTest {
                 .setIsbn(updateRequest.getIsbn())
                 .setPrice(updateRequest.getPrice());
 
-        BookDto updateExpect = new BookDto()
-                .setId(VALID_ID_ONE)
-                .setAuthor(updateBook.getAuthor())
-                .setTitle(updateBook.getTitle())
-                .setIsbn(updateBook.getIsbn())
-                .setPrice(updateBook.getPrice())
-                .setCategoryIds(new HashSet<>(Set.of(VALID_ID_ONE)));
+        BookDto updateExpect = new BookDto(
+                VALID_ID_ONE,
+                updateBook.getTitle(),
+                updateBook.getAuthor(),
+                updateBook.getIsbn(),
+                updateBook.getPrice(),
+                null,
+                null,
+                new HashSet<>(Set.of(VALID_ID_ONE)));
 
         when(bookRepository.findById(VALID_ID_ONE)).thenReturn(Optional.of(firstBook));
         when(bookMapper.updateBookModelFromBookDto(firstBook, updateRequest))
@@ -185,6 +201,7 @@ class BookServiceTest {
                 .updateBookModelFromBookDto(firstBook, updateRequest);
         verify(bookMapper, Mockito.times(1)).toDto(updateBook);
         verify(categoryRepository, Mockito.times(1)).findById(VALID_ID_ONE);
+        verify(shoppingCartRepository, Mockito.times(1)).refreshSummariesByBookId(VALID_ID_ONE);
         verifyNoMoreInteractions(bookRepository, bookMapper, categoryRepository);
     }
 
@@ -194,28 +211,81 @@ class BookServiceTest {
             """)
     void searchBooks_ParamTitle_Ok() {
         BookSearchParametersDto params = new BookSearchParametersDto(
+                new String[]{},
                 new String[]{"sample title 1"},
                 new String[]{},
                 new String[]{},
+                new String[]{},
+                new String[]{},
                 new String[]{}
         );
+        Pageable pageable = PageRequest.of(0, 5);
         Specification<Book> specification = Specification.where((root, query, criteriaBuilder) ->
                 root.get("title").in(params));
-        List<Book> books = new ArrayList<>(List.of(firstBook));
+        List<BookDto> expected = new ArrayList<>(List.of(firstExpected));
 
         when(builder.build(params)).thenReturn(specification);
-        when(bookRepository.findAll(specification)).thenReturn(books);
-        when(bookMapper.toDto(books.get(0))).thenReturn(firstExpected);
+        when(bookRepository.findAllAsDto(specification, pageable)).thenReturn(expected);
 
-        List<BookDto> expected = new ArrayList<>(List.of(firstExpected));
-        List<BookDto> actual = bookService.searchBooks(params);
+        List<BookDto> actual = bookService.searchBooks(params, pageable);
 
         assertThat(actual.size()).isEqualTo(expected.size());
         assertThat(actual).isEqualTo(expected);
 
         verify(builder, Mockito.times(1)).build(params);
-        verify(bookRepository, Mockito.times(1)).findAll(specification);
-        verify(bookMapper, Mockito.times(1)).toDto(books.get(0));
+        verify(bookRepository, Mockito.times(1)).findAllAsDto(specification, pageable);
+        verifyNoMoreInteractions(builder, bookRepository, bookMapper);
+    }
+
+    @Test
+    @DisplayName("""
+            Must reject search with both price and title cursors
+            """)
+    void searchBooks_TwoKeysetCursors_ThrowsException() {
+        BookSearchParametersDto params = new BookSearchParametersDto(
+                null,
+                null,
+                null,
+                null,
+                null,
+                new String[]{"44.4", "1"},
+                new String[]{"sample title 1", "1"}
+        );
+
+        Exception exception = Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> bookService.searchBooks(params, PageRequest.of(0, 5))
+        );
+
+        String expected = "Only one of priceAfter and titleAfter can be used at a time";
+        assertThat(exception.getMessage()).isEqualTo(expected);
+        verify(builder, Mockito.times(1)).build(params);
+        verifyNoMoreInteractions(bookRepository, bookMapper);
+    }
+
+    @Test
+    @DisplayName("""
+            Must reject a q search page past the ranked results cap
+            """)
+    void searchBooks_QueryPagePastCap_ThrowsException() {
+        BookSearchParametersDto params = new BookSearchParametersDto(
+                new String[]{"sherlock"},
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+        Pageable pageable = PageRequest.of(BookSearchIndex.MAX_RESULTS / 20, 20);
+
+        Exception exception = Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> bookService.searchBooks(params, pageable)
+        );
+
+        String expected = "Search by q is limited to the 500 best matches, narrow the query";
+        assertThat(exception.getMessage()).isEqualTo(expected);
         verifyNoMoreInteractions(builder, bookRepository, bookMapper);
     }
 
@@ -225,48 +295,124 @@ class BookServiceTest {
             """)
     void findAllBooksByCategoryIds_ValidInput_Ok() {
         Pageable pageable = PageRequest.of(0, 5);
-        List<Book> books = new ArrayList<>(List.of(firstBook, secondBook));
-        Page<Book> page = new PageImpl<>(books, pageable, books.size());
-
-        BookDtoWithoutCategoryIds firstWithoutCategoriesExpected = new BookDtoWithoutCategoryIds()
-                .setAuthor(firstBook.getAuthor())
-                .setTitle(firstBook.getTitle())
-                .setIsbn(firstBook.getIsbn())
-                .setPrice(firstBook.getPrice());
-
-        BookDtoWithoutCategoryIds secondWithoutCategoriesExpected = new BookDtoWithoutCategoryIds()
-                .setAuthor(secondBook.getAuthor())
-                .setTitle(secondBook.getTitle())
-                .setIsbn(secondBook.getIsbn())
-                .setPrice(secondBook.getPrice());
 
-        when(bookRepository
-                .findAllByCategoryIds(category.getId(), pageable))
-                .thenReturn(page);
-        when(bookMapper.toDtoWithoutCategoryIds(firstBook))
-                .thenReturn(firstWithoutCategoriesExpected);
-        when(bookMapper.toDtoWithoutCategoryIds(secondBook))
-                .thenReturn(secondWithoutCategoriesExpected);
+        BookDtoWithoutCategoryIds firstWithoutCategoriesExpected = new BookDtoWithoutCategoryIds(
+                null,
+                firstBook.getTitle(),
+                firstBook.getAuthor(),
+                firstBook.getIsbn(),
+                firstBook.getPrice(),
+                null,
+                null);
+
+        BookDtoWithoutCategoryIds secondWithoutCategoriesExpected = new BookDtoWithoutCategoryIds(
+                null,
+                secondBook.getTitle(),
+                secondBook.getAuthor(),
+                secondBook.getIsbn(),
+                secondBook.getPrice(),
+                null,
+                null);
 
         List<BookDtoWithoutCategoryIds> expected = new ArrayList<>(
                 List.of(firstWithoutCategoriesExpected,
                         secondWithoutCategoriesExpected)
         );
+        when(bookRepository
+                .findAllByCategoryId(category.getId(), pageable))
+                .thenReturn(expected);
+
         List<BookDtoWithoutCategoryIds> actual =
                 bookService.findAllBooksByCategoryIds(category.getId(), pageable);
 
-        assertThat(actual.get(0).getAuthor()).isEqualTo(expected.get(0).getAuthor());
-        assertThat(actual.get(1).getAuthor()).isEqualTo(expected.get(1).getAuthor());
+        assertThat(actual.get(0).author()).isEqualTo(expected.get(0).author());
+        assertThat(actual.get(1).author()).isEqualTo(expected.get(1).author());
         assertThat(actual).isEqualTo(expected);
         verify(bookRepository, Mockito.times(1))
-                .findAllByCategoryIds(category.getId(), pageable);
-        verify(bookMapper, Mockito.times(1))
-                .toDtoWithoutCategoryIds(firstBook);
-        verify(bookMapper, Mockito.times(1))
-                .toDtoWithoutCategoryIds(secondBook);
+                .findAllByCategoryId(category.getId(), pageable);
         verifyNoMoreInteractions(bookRepository, bookMapper);
     }
 
+    @Test
+    @DisplayName("""
+            Must return a slice of books by category id as content with a hasNext flag
+            """)
+    void findBooksSliceByCategoryId_NextSliceExists_HasNext() {
+        Pageable pageable = PageRequest.of(0, 1);
+        BookDtoWithoutCategoryIds book = new BookDtoWithoutCategoryIds(
+                VALID_ID_ONE,
+                firstBook.getTitle(),
+                firstBook.getAuthor(),
+                firstBook.getIsbn(),
+                firstBook.getPrice(),
+                null,
+                null);
+        when(bookRepository.findSliceByCategoryId(VALID_ID_ONE, pageable))
+                .thenReturn(new SliceImpl<>(List.of(book), pageable, true));
+
+        BookSliceDto actual = bookService.findBooksSliceByCategoryId(VALID_ID_ONE, pageable);
+
+        assertThat(actual).isEqualTo(new BookSliceDto(List.of(book), true));
+        verify(bookRepository).findSliceByCategoryId(VALID_ID_ONE, pageable);
+        verifyNoMoreInteractions(bookRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Must not query DB for Id that is definitely absent
+            """)
+    void getBookById_DefinitelyAbsentId_ThrowsWithoutQuery() {
+        when(bookIdFilter.isDefinitelyAbsent(INVALID_ID_FIVE)).thenReturn(true);
+
+        Exception exception = Assert.assertThrows(
+                EntityNotFoundException.class,
+                () -> bookService.getBookById(INVALID_ID_FIVE)
+        );
+
+        assertThat(exception.getMessage())
+                .isEqualTo("There is no Book with id: " + INVALID_ID_FIVE);
+        verifyNoMoreInteractions(bookRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Must tag a book by its id and version without loading it
+            """)
+    void getBookTag_ValidId_VersionTag() {
+        Instant updatedAt = Instant.parse("2024-03-01T10:15:30Z");
+        when(bookRepository.findVersionById(VALID_ID_ONE))
+                .thenReturn(Optional.of(new ResourceVersionDto(VALID_ID_ONE, 3L, updatedAt)));
+
+        ResourceTagDto actual = bookService.getBookTag(VALID_ID_ONE);
+
+        assertThat(actual)
+                .isEqualTo(new ResourceTagDto("W/\"" + VALID_ID_ONE + "-3\"", updatedAt));
+        verify(bookRepository, Mockito.times(1)).findVersionById(VALID_ID_ONE);
+        verifyNoMoreInteractions(bookRepository, bookMapper);
+    }
+
+    @Test
+    @DisplayName("""
+            Must change the page tag when any book on the page changes
+            """)
+    void getBooksTag_VersionChanged_DifferentTag() {
+        Pageable pageable = PageRequest.of(0, 2);
+        Instant older = Instant.parse("2024-03-01T10:15:30Z");
+        Instant newer = older.plusSeconds(60);
+        when(bookRepository.findAllVersions(pageable)).thenReturn(
+                List.of(new ResourceVersionDto(VALID_ID_ONE, 0L, older),
+                        new ResourceVersionDto(VALID_ID_TWO, 0L, older)),
+                List.of(new ResourceVersionDto(VALID_ID_ONE, 0L, older),
+                        new ResourceVersionDto(VALID_ID_TWO, 1L, newer)));
+
+        ResourceTagDto before = bookService.getBooksTag(pageable);
+        ResourceTagDto after = bookService.getBooksTag(pageable);
+
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(before.lastModified()).isNull();
+        assertThat(after.lastModifiedMillis()).isEqualTo(-1);
+    }
+
     @Test
     @DisplayName("""
             Must throw exception with invalid Id
@@ -387,13 +533,15 @@ class BookServiceTest {
     }
 
     private static BookDto createFirstExpectedBook() {
-        return new BookDto()
-                .setId(VALID_ID_ONE)
-                .setAuthor(firstBook.getAuthor())
-                .setTitle(firstBook.getTitle())
-                .setPrice(firstBook.getPrice())
-                .setIsbn(firstBook.getIsbn())
-                .setCategoryIds(new HashSet<>(Set.of(VALID_ID_ONE)));
+        return new BookDto(
+                VALID_ID_ONE,
+                firstBook.getTitle(),
+                firstBook.getAuthor(),
+                firstBook.getIsbn(),
+                firstBook.getPrice(),
+                null,
+                null,
+                new HashSet<>(Set.of(VALID_ID_ONE)));
     }
 
     private static CreateBookRequestDto createSecondBookRequest() {
@@ -414,13 +562,15 @@ class BookServiceTest {
     }
 
     private static BookDto createSecondExpectedBook() {
-        return new BookDto()
-                .setId(VALID_ID_TWO)
-                .setAuthor(secondBook.getAuthor())
-                .setTitle(secondBook.getTitle())
-                .setPrice(secondBook.getPrice())
-                .setIsbn(secondBook.getIsbn())
-                .setCategoryIds(new HashSet<>(Set.of(VALID_ID_ONE)));
+        return new BookDto(
+                VALID_ID_TWO,
+                secondBook.getTitle(),
+                secondBook.getAuthor(),
+                secondBook.getIsbn(),
+                secondBook.getPrice(),
+                null,
+                null,
+                new HashSet<>(Set.of(VALID_ID_ONE)));
     }
 
     private static CreateBookRequestDto createUpdateBookRequest() {
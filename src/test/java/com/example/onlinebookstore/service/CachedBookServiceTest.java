@@ -0,0 +1,206 @@
+package com.example.onlinebookstore.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.example.onlinebookstore.config.CacheConfig;
+import com.example.onlinebookstore.dto.book.BookDto;
+import com.example.onlinebookstore.dto.book.CreateBookRequestDto;
+import com.example.onlinebookstore.mapper.BookMapper;
+import com.example.onlinebookstore.model.Book;
+import com.example.onlinebookstore.repository.book.BookIdFilter;
+import com.example.onlinebookstore.repository.book.BookRepository;
+import com.example.onlinebookstore.repository.book.BookSearchIndex;
+import com.example.onlinebookstore.repository.book.BookSpecificationBuilder;
+import com.example.onlinebookstore.repository.cart.ShoppingCartRepository;
+import com.example.onlinebookstore.repository.category.CategoryIdFilter;
+import com.example.onlinebookstore.repository.category.CategoryRepository;
+import com.example.onlinebookstore.service.book.BookService;
+import com.example.onlinebookstore.service.book.impl.BookServiceImpl;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+@SpringJUnitConfig
+class CachedBookServiceTest {
+    private static final Long BOOK_ID = 1L;
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 5);
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private RecordingTransactionManager transactionManager;
+    @MockBean
+    private BookRepository bookRepository;
+    @MockBean
+    private BookMapper bookMapper;
+    @MockBean
+    private BookSpecificationBuilder builder;
+    @MockBean
+    private CategoryRepository categoryRepository;
+    @MockBean
+    private BookSearchIndex searchIndex;
+    @MockBean
+    private BookIdFilter bookIdFilter;
+    @MockBean
+    private CategoryIdFilter categoryIdFilter;
+    @MockBean
+    private ShoppingCartRepository shoppingCartRepository;
+
+    private CreateBookRequestDto request;
+    private BookDto updated;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        transactionManager.reset();
+        request = new CreateBookRequestDto()
+                .setTitle("Snow White")
+                .setAuthor("Brothers Grimm")
+                .setIsbn("1234567890")
+                .setPrice(BigDecimal.TEN);
+        Book book = new Book()
+                .setId(BOOK_ID)
+                .setTitle(request.getTitle())
+                .setAuthor(request.getAuthor())
+                .setIsbn(request.getIsbn())
+                .setPrice(request.getPrice());
+        updated = new BookDto(BOOK_ID, book.getTitle(), book.getAuthor(), book.getIsbn(),
+                book.getPrice(), null, null, Set.of());
+        when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.of(book));
+        when(bookMapper.updateBookModelFromBookDto(book, request)).thenReturn(book);
+        when(bookRepository.save(book)).thenReturn(book);
+        when(bookMapper.toDto(book)).thenReturn(updated);
+    }
+
+    @Test
+    @DisplayName("""
+            Must put the updated book and evict pages only after the transaction committed
+            """)
+    void update_Committed_CachesAfterCommit() {
+        Cache books = cacheManager.getCache("books");
+        Cache bookPages = cacheManager.getCache("bookPages");
+        bookPages.put(FIRST_PAGE, List.of());
+        transactionManager.onCommit(() -> {
+            assertThat(books.get(BOOK_ID)).isNull();
+            assertThat(bookPages.get(FIRST_PAGE)).isNotNull();
+        });
+
+        bookService.update(BOOK_ID, request);
+
+        assertThat(transactionManager.commits).isEqualTo(1);
+        assertThat(books.get(BOOK_ID, BookDto.class)).isEqualTo(updated);
+        assertThat(bookPages.get(FIRST_PAGE)).isNull();
+    }
+
+    @Test
+    @DisplayName("""
+            Must keep the previous cache entries when the transaction fails to commit
+            """)
+    void update_CommitFails_CacheUntouched() {
+        Cache books = cacheManager.getCache("books");
+        Cache bookPages = cacheManager.getCache("bookPages");
+        BookDto cached = new BookDto(BOOK_ID, "Old title", "Brothers Grimm", "1234567890",
+                BigDecimal.ONE, null, null, Set.of());
+        books.put(BOOK_ID, cached);
+        bookPages.put(FIRST_PAGE, List.of(cached));
+        transactionManager.onCommit(() -> {
+            throw new TransactionSystemException("Could not commit");
+        });
+
+        assertThatThrownBy(() -> bookService.update(BOOK_ID, request))
+                .isInstanceOf(TransactionSystemException.class);
+
+        assertThat(books.get(BOOK_ID, BookDto.class)).isEqualTo(cached);
+        assertThat(bookPages.get(FIRST_PAGE)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("""
+            Must not let callers modify a cached book page
+            """)
+    void findAll_CachedPage_Unmodifiable() {
+        when(bookRepository.findAllAsDto(any(), eq(FIRST_PAGE))).thenReturn(List.of(updated));
+
+        List<BookDto> first = bookService.findAll(FIRST_PAGE);
+        List<BookDto> second = bookService.findAll(FIRST_PAGE);
+
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> first.add(updated))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> first.get(0).categoryIds().add(2L))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({CacheConfig.class, BookServiceImpl.class})
+    static class Config {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+
+        @Bean
+        RecordingTransactionManager transactionManager() {
+            return new RecordingTransactionManager();
+        }
+    }
+
+    static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+        private int commits;
+        private Runnable onCommit;
+
+        void reset() {
+            commits = 0;
+            onCommit = () -> { };
+        }
+
+        void onCommit(Runnable onCommit) {
+            this.onCommit = onCommit;
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            onCommit.run();
+            commits++;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
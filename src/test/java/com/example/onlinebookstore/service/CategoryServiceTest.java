@@ -6,6 +6,8 @@ import com.example.onlinebookstore.dto.category.CategoryRequestDto;
 import com.example.onlinebookstore.dto.category.CategoryResponseDto;
 import com.example.onlinebookstore.mapper.CategoryMapper;
 import com.example.onlinebookstore.model.Category;
+import com.example.onlinebookstore.repository.book.BookRepository;
+import com.example.onlinebookstore.repository.category.CategoryIdFilter;
 import com.example.onlinebookstore.repository.category.CategoryRepository;
 import com.example.onlinebookstore.service.category.impl.CategoryServiceImpl;
 import jakarta.persistence.EntityNotFoundException;
@@ -40,6 +42,10 @@ class CategoryServiceTest {
     private CategoryRepository categoryRepository;
     @Mock
     private CategoryMapper categoryMapper;
+    @Mock
+    private CategoryIdFilter categoryIdFilter;
+    @Mock
+    private BookRepository bookRepository;
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -124,8 +130,10 @@ class CategoryServiceTest {
         CategoryRequestDto updateRequest = new CategoryRequestDto().setName("romance");
         Category updatedCategory = new Category()
                 .setName(updateRequest.getName());
-        CategoryResponseDto expected = new CategoryResponseDto()
-                .setName(updatedCategory.getName());
+        CategoryResponseDto expected = new CategoryResponseDto(
+                null,
+                updatedCategory.getName(),
+                null);
 
         Mockito.when(categoryRepository.findById(VALID_ID_ONE))
                 .thenReturn(Optional.of(firstCategory));
@@ -154,7 +162,8 @@ class CategoryServiceTest {
     void deleteById_ValidId_Ok() {
         categoryService.deleteById(VALID_ID_TWO);
         Mockito.verify(categoryRepository, Mockito.times(1)).deleteById(VALID_ID_TWO);
-        Mockito.verifyNoMoreInteractions(categoryRepository);
+        Mockito.verify(bookRepository, Mockito.times(1)).touchByCategoryId(VALID_ID_TWO);
+        Mockito.verifyNoMoreInteractions(categoryRepository, bookRepository);
     }
 
     @Test
@@ -213,14 +222,16 @@ class CategoryServiceTest {
     }
 
     private static CategoryResponseDto createFirstExpectedCategory() {
-        return new CategoryResponseDto()
-                .setId(VALID_ID_ONE)
-                .setName(firstCategory.getName());
+        return new CategoryResponseDto(
+                VALID_ID_ONE,
+                firstCategory.getName(),
+                null);
     }
 
     private static CategoryResponseDto createSecondExpectedCategory() {
-        return new CategoryResponseDto()
-                .setId(VALID_ID_TWO)
-                .setName(secondCategory.getName());
+        return new CategoryResponseDto(
+                VALID_ID_TWO,
+                secondCategory.getName(),
+                null);
     }
 }
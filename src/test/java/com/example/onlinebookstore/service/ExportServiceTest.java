@@ -0,0 +1,84 @@
+package com.example.onlinebookstore.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.example.onlinebookstore.dto.book.BookExportRowDto;
+import com.example.onlinebookstore.dto.order.OrderExportRowDto;
+import com.example.onlinebookstore.model.Order;
+import com.example.onlinebookstore.repository.book.BookRepository;
+import com.example.onlinebookstore.repository.order.OrderRepository;
+import com.example.onlinebookstore.service.export.ExportFormat;
+import com.example.onlinebookstore.service.export.impl.ExportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 2, 1, 0, 0);
+
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private OrderRepository orderRepository;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    @InjectMocks
+    private ExportServiceImpl exportService;
+
+    @Test
+    @DisplayName("""
+            Must write one CSV line per book with its category ids joined
+            """)
+    void exportBooks_Csv_OneLinePerBook() {
+        when(bookRepository.streamAllForExport()).thenReturn(Stream.of(
+                new BookExportRowDto(1L, "Sherlock Holmes, Vol. 1", "Conan Doyle",
+                        "262462462624", BigDecimal.valueOf(55), null, null, 1L),
+                new BookExportRowDto(1L, "Sherlock Holmes, Vol. 1", "Conan Doyle",
+                        "262462462624", BigDecimal.valueOf(55), null, null, 3L),
+                new BookExportRowDto(2L, "Snow White", "Brothers Grimm",
+                        "315613616", BigDecimal.valueOf(33), "fairy \"tale\"", null, null)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        exportService.exportBooks(ExportFormat.CSV, outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                id,title,author,isbn,price,description,coverImage,categoryIds
+                1,"Sherlock Holmes, Vol. 1",Conan Doyle,262462462624,55,,,1;3
+                2,Snow White,Brothers Grimm,315613616,33,"fairy ""tale\"\"",,
+                """);
+    }
+
+    @Test
+    @DisplayName("""
+            Must write one JSON object per line for each order item
+            """)
+    void exportOrders_Ndjson_OneLinePerItem() {
+        when(orderRepository.streamForExport(FROM, TO)).thenReturn(Stream.of(
+                new OrderExportRowDto(1L, 1L, FROM, Order.Status.PENDING,
+                        BigDecimal.valueOf(77), "address 08", 1L, 1L, 1, BigDecimal.valueOf(44)),
+                new OrderExportRowDto(1L, 1L, FROM, Order.Status.PENDING,
+                        BigDecimal.valueOf(77), "address 08", 2L, 2L, 1, BigDecimal.valueOf(33))));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        exportService.exportOrders(FROM, TO, ExportFormat.NDJSON, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"orderId\":1,\"userId\":1,")
+                .contains("\"status\":\"PENDING\"", "\"orderItemId\":1", "\"price\":44");
+        assertThat(lines[1]).contains("\"orderItemId\":2", "\"bookId\":2");
+    }
+}
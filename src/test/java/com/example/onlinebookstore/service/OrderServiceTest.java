@@ -3,6 +3,7 @@ package com.example.onlinebookstore.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -19,6 +20,7 @@ import com.example.onlinebookstore.model.OrderItem;
 import com.example.onlinebookstore.model.ShoppingCart;
 import com.example.onlinebookstore.model.User;
 import com.example.onlinebookstore.repository.cart.ShoppingCartRepository;
+import com.example.onlinebookstore.repository.cartitem.CartItemRepository;
 import com.example.onlinebookstore.repository.order.OrderRepository;
 import com.example.onlinebookstore.repository.orderitem.OrderItemRepository;
 import com.example.onlinebookstore.service.order.impl.OrderServiceImpl;
@@ -26,7 +28,6 @@ import com.example.onlinebookstore.service.user.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -43,6 +44,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 @ExtendWith(MockitoExtension.class)
 class OrderServiceTest {
@@ -65,6 +68,8 @@ class OrderServiceTest {
     @Mock
     private OrderItemRepository itemRepository;
     @Mock
+    private CartItemRepository cartItemRepository;
+    @Mock
     private OrderMapper orderMapper;
     @Mock
     private OrderItemMapper orderItemMapper;
@@ -77,6 +82,7 @@ class OrderServiceTest {
     static void beforeAll() {
         user = createUser();
         order = new Order()
+                .setId(ID_ONE)
                 .setUser(user)
                 .setStatus(Order.Status.PENDING)
                 .setShippingAddress("address 08")
@@ -97,9 +103,12 @@ class OrderServiceTest {
             """)
     void getOrdersForCurrentUser_ValidRequest_Ok() {
         Pageable pageable = PageRequest.of(0, 5);
-        Page<Order> page = new PageImpl<>(List.of(order), pageable, 1);
-        when(userService.getCurrentUser()).thenReturn(user);
-        when(orderRepository.getOrdersByUser(user, PageRequest.of(0, 5))).thenReturn(page);
+        Pageable byId = PageRequest.of(0, 5, Sort.by("id"));
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(orderRepository.findIdsByUserId(user.getId(), byId))
+                .thenReturn(List.of(order.getId()));
+        when(orderRepository.findAllWithItemsByIdIn(List.of(order.getId())))
+                .thenReturn(List.of(order));
         when(orderMapper.toDto(order)).thenReturn(expectedOrder);
         when(orderItemMapper.toDto(firstOrderItem)).thenReturn(firstExpectedItem);
         when(orderItemMapper.toDto(secondOrderItem)).thenReturn(secondExpectedItem);
@@ -109,8 +118,9 @@ class OrderServiceTest {
         assertThat(actual).isNotNull();
         assertThat(actual).isEqualTo(List.of(expectedOrder));
 
-        verify(userService, times(1)).getCurrentUser();
-        verify(orderRepository, times(1)).getOrdersByUser(user, pageable);
+        verify(userService, times(1)).getCurrentUserId();
+        verify(orderRepository, times(1)).findIdsByUserId(user.getId(), byId);
+        verify(orderRepository, times(1)).findAllWithItemsByIdIn(List.of(order.getId()));
         verify(orderMapper, times(1)).toDto(order);
         verify(orderItemMapper, times(1)).toDto(firstOrderItem);
         verify(orderItemMapper, times(1)).toDto(secondOrderItem);
@@ -136,8 +146,10 @@ class OrderServiceTest {
                 .setQuantity(2);
         cart.getCartItems().add(firstCartItem);
         cart.getCartItems().add(secondCartItem);
-        when(userService.getCurrentUser()).thenReturn(user);
-        when(cartRepository.findByUser(user)).thenReturn(Optional.of(cart));
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(cartRepository.findForUpdateByUserId(user.getId())).thenReturn(Optional.of(cart));
+        when(cartRepository.findByUserId(user.getId())).thenReturn(Optional.of(cart));
+        when(userService.getCurrentUserReference()).thenReturn(user);
         when(orderItemMapper.convertCartItemToOrderItem(firstCartItem))
                 .thenReturn(firstOrderItem);
         when(orderItemMapper.convertCartItemToOrderItem(secondCartItem))
@@ -154,17 +166,38 @@ class OrderServiceTest {
 
         assertThat(actual).isNotNull();
         assertThat(actual).isEqualTo(expectedOrder);
-        verify(userService, times(2)).getCurrentUser();
-        verify(cartRepository, times(1)).findByUser(user);
+        verify(userService, times(1)).getCurrentUserId();
+        verify(cartRepository, times(1)).findForUpdateByUserId(user.getId());
+        verify(cartRepository, times(1)).findByUserId(user.getId());
+        verify(userService, times(1)).getCurrentUserReference();
         verify(orderItemMapper, times(1)).convertCartItemToOrderItem(firstCartItem);
         verify(orderItemMapper, times(1)).convertCartItemToOrderItem(secondCartItem);
         verify(orderRepository, times(1)).save(Mockito.any(Order.class));
         verify(itemRepository, times(1)).saveAll(order.getOrderItems());
+        verify(cartItemRepository, times(1)).deleteAllByShoppingCartId(cart.getId());
+        verify(cartRepository, times(1)).refreshSummary(cart.getId());
         verify(orderMapper, times(1)).toDto(Mockito.any(Order.class));
         verify(orderItemMapper, times(1)).toDto(firstOrderItem);
         verify(orderItemMapper, times(1)).toDto(secondOrderItem);
-        verifyNoMoreInteractions(userService, cartRepository,
-                orderItemMapper, orderRepository, itemRepository, orderMapper);
+        verifyNoMoreInteractions(userService, cartRepository, orderItemMapper,
+                orderRepository, itemRepository, cartItemRepository, orderMapper);
+    }
+
+    @Test
+    @DisplayName("""
+            Must page order ids with id as the tie-breaker of the client sort
+            """)
+    void getOrdersForCurrentUser_SortedRequest_IdTieBreaker() {
+        Pageable pageable = PageRequest.of(1, 5, Sort.by("orderDate"));
+        Pageable stable = PageRequest.of(1, 5, Sort.by("orderDate", "id"));
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(orderRepository.findIdsByUserId(user.getId(), stable)).thenReturn(List.of());
+
+        List<OrderResponseDto> actual = orderService.getOrdersForCurrentUser(pageable);
+
+        assertThat(actual).isEmpty();
+        verify(orderRepository, times(1)).findIdsByUserId(user.getId(), stable);
+        verifyNoMoreInteractions(orderRepository);
     }
 
     @Test
@@ -172,29 +205,91 @@ class OrderServiceTest {
             Update Status with valid request
             """)
     void updateOrderStatus_ValidRequest_Ok() {
-        Order order = new Order()
-                .setStatus(Order.Status.PENDING)
-                .setOrderItems(new HashSet<>());
+        OrderResponseDto current = new OrderResponseDto(ID_TWO, ID_ONE, LocalDateTime.now(),
+                BigDecimal.TEN, Order.Status.PENDING, 3L);
         OrderStatusDto request = new OrderStatusDto()
-                .setStatus(Order.Status.DELIVERED);
-        OrderResponseDto expectedOrder = new OrderResponseDto()
-                .setId(ID_TWO)
-                .setStatus(Order.Status.DELIVERED)
-                .setOrderItems(new HashSet<>());
+                .setStatus(Order.Status.ON_THE_WAY);
 
-        when(orderRepository.findById(ID_TWO)).thenReturn(Optional.of(order));
-        when(orderRepository.save(order)).thenReturn(order);
-        when(orderMapper.toDto(order)).thenReturn(expectedOrder);
+        when(orderRepository.findResponseById(ID_TWO)).thenReturn(Optional.of(current));
+        when(orderRepository.updateStatus(ID_TWO, Order.Status.ON_THE_WAY, 3L)).thenReturn(1);
 
         OrderResponseDto actual = orderService.updateOrderStatus(ID_TWO, request);
 
-        assertThat(actual).isNotNull();
-        assertThat(actual).isEqualTo(expectedOrder);
+        assertThat(actual.getStatus()).isEqualTo(Order.Status.ON_THE_WAY);
+        assertThat(actual.getVersion()).isEqualTo(4L);
+        assertThat(actual.getOrderItems()).isNull();
 
-        verify(orderRepository, times(1)).findById(ID_TWO);
-        verify(orderRepository, times(1)).save(order);
-        verify(orderMapper, times(1)).toDto(order);
-        verifyNoMoreInteractions(orderRepository, orderMapper);
+        verify(orderRepository, times(1)).findResponseById(ID_TWO);
+        verify(orderRepository, times(1)).updateStatus(ID_TWO, Order.Status.ON_THE_WAY, 3L);
+        verifyNoMoreInteractions(orderRepository, orderMapper, orderItemMapper);
+    }
+
+    @Test
+    @DisplayName("""
+            Must reject a status change the state machine doesn't allow
+            """)
+    void updateOrderStatus_InvalidTransition_ThrowsException() {
+        OrderResponseDto current = new OrderResponseDto(ID_TWO, ID_ONE, LocalDateTime.now(),
+                BigDecimal.TEN, Order.Status.DELIVERED, 5L);
+        OrderStatusDto request = new OrderStatusDto()
+                .setStatus(Order.Status.PENDING);
+
+        when(orderRepository.findResponseById(ID_TWO)).thenReturn(Optional.of(current));
+
+        Exception exception = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> orderService.updateOrderStatus(ID_TWO, request)
+        );
+
+        assertThat(exception.getMessage()).isEqualTo(
+                "Order with id: " + ID_TWO + " can't move from DELIVERED to PENDING");
+        verify(orderRepository, times(1)).findResponseById(ID_TWO);
+        verifyNoMoreInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Must reject a status change based on a stale version
+            """)
+    void updateOrderStatus_StaleVersion_ThrowsConflict() {
+        OrderResponseDto current = new OrderResponseDto(ID_TWO, ID_ONE, LocalDateTime.now(),
+                BigDecimal.TEN, Order.Status.PENDING, 3L);
+        OrderStatusDto request = new OrderStatusDto()
+                .setStatus(Order.Status.ON_THE_WAY)
+                .setVersion(2L);
+
+        when(orderRepository.findResponseById(ID_TWO)).thenReturn(Optional.of(current));
+
+        Assertions.assertThrows(
+                ObjectOptimisticLockingFailureException.class,
+                () -> orderService.updateOrderStatus(ID_TWO, request)
+        );
+
+        verify(orderRepository, times(1)).findResponseById(ID_TWO);
+        verifyNoMoreInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Must fail when another update wins between read and write
+            """)
+    void updateOrderStatus_ConcurrentUpdate_ThrowsConflict() {
+        OrderResponseDto current = new OrderResponseDto(ID_TWO, ID_ONE, LocalDateTime.now(),
+                BigDecimal.TEN, Order.Status.PENDING, 3L);
+        OrderStatusDto request = new OrderStatusDto()
+                .setStatus(Order.Status.ON_THE_WAY);
+
+        when(orderRepository.findResponseById(ID_TWO)).thenReturn(Optional.of(current));
+        when(orderRepository.updateStatus(ID_TWO, Order.Status.ON_THE_WAY, 3L)).thenReturn(0);
+
+        Assertions.assertThrows(
+                ObjectOptimisticLockingFailureException.class,
+                () -> orderService.updateOrderStatus(ID_TWO, request)
+        );
+
+        verify(orderRepository, times(1)).findResponseById(ID_TWO);
+        verify(orderRepository, times(1)).updateStatus(ID_TWO, Order.Status.ON_THE_WAY, 3L);
+        verifyNoMoreInteractions(orderRepository);
     }
 
     @Test
@@ -206,8 +301,8 @@ class OrderServiceTest {
         List<OrderItem> items = List.of(firstOrderItem, secondOrderItem);
         Page<OrderItem> page = new PageImpl<>(items, pageable, items.size());
 
-        when(userService.getCurrentUser()).thenReturn(user);
-        when(orderRepository.existsByIdAndUser(ID_ONE, user)).thenReturn(true);
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(orderRepository.existsByIdAndUserId(ID_ONE, user.getId())).thenReturn(true);
         when(orderRepository.findById(ID_ONE)).thenReturn(Optional.of(order));
         when(itemRepository.getOrderItemsByOrder(order, pageable)).thenReturn(page);
         when(orderItemMapper.toDto(firstOrderItem)).thenReturn(firstExpectedItem);
@@ -219,8 +314,8 @@ class OrderServiceTest {
         assertThat(actual).isNotNull();
         assertThat(actual).isEqualTo(expected);
 
-        verify(userService, times(1)).getCurrentUser();
-        verify(orderRepository, times(1)).existsByIdAndUser(ID_ONE, user);
+        verify(userService, times(1)).getCurrentUserId();
+        verify(orderRepository, times(1)).existsByIdAndUserId(ID_ONE, user.getId());
         verify(orderRepository, times(1)).findById(ID_ONE);
         verify(itemRepository, times(1)).getOrderItemsByOrder(order, pageable);
         verify(orderItemMapper, times(1)).toDto(firstOrderItem);
@@ -233,9 +328,10 @@ class OrderServiceTest {
             Return expected OrderItem
             """)
     void getOrderItemByOrderAndItemIds_ValidIds_Ok() {
-        when(userService.getCurrentUser()).thenReturn(user);
-        when(orderRepository.existsByIdAndUser(ID_ONE, user)).thenReturn(true);
-        when(orderRepository.findById(ID_ONE)).thenReturn(Optional.of(order));
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(orderRepository.existsByIdAndUserId(ID_ONE, user.getId())).thenReturn(true);
+        when(itemRepository.findByIdAndOrderId(ID_TWO, ID_ONE))
+                .thenReturn(Optional.of(secondOrderItem));
         when(orderItemMapper.toDto(secondOrderItem)).thenReturn(secondExpectedItem);
 
         OrderItemResponseDto actual = orderService.getOrderItemByOrderAndItemIds(ID_ONE, ID_TWO);
@@ -243,11 +339,11 @@ class OrderServiceTest {
         assertThat(actual).isNotNull();
         assertThat(actual).isEqualTo(secondExpectedItem);
 
-        verify(userService, times(1)).getCurrentUser();
-        verify(orderRepository, times(1)).existsByIdAndUser(ID_ONE, user);
-        verify(orderRepository, times(1)).findById(ID_ONE);
+        verify(userService, times(1)).getCurrentUserId();
+        verify(orderRepository, times(1)).existsByIdAndUserId(ID_ONE, user.getId());
+        verify(itemRepository, times(1)).findByIdAndOrderId(ID_TWO, ID_ONE);
         verify(orderItemMapper, times(1)).toDto(secondOrderItem);
-        verifyNoMoreInteractions(userService, orderRepository, orderItemMapper);
+        verifyNoMoreInteractions(userService, orderRepository, itemRepository, orderItemMapper);
     }
 
     @Test
@@ -255,8 +351,8 @@ class OrderServiceTest {
             AccessDenied to get Items not from your order
             """)
     void getAllOrderItems_InvalidRequest_ThrowsException() {
-        when(userService.getCurrentUser()).thenReturn(user);
-        when(orderRepository.existsByIdAndUser(INVALID_ID, user)).thenReturn(false);
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(orderRepository.existsByIdAndUserId(INVALID_ID, user.getId())).thenReturn(false);
 
         Exception exception = Assertions.assertThrows(
                 org.springframework.security.access.AccessDeniedException.class,
@@ -269,18 +365,18 @@ class OrderServiceTest {
         assertThat(actual).isNotNull();
         assertThat(actual).isEqualTo(expected);
 
-        verify(userService, times(1)).getCurrentUser();
-        verify(orderRepository, times(1)).existsByIdAndUser(INVALID_ID, user);
+        verify(userService, times(1)).getCurrentUserId();
+        verify(orderRepository, times(1)).existsByIdAndUserId(INVALID_ID, user.getId());
         verifyNoMoreInteractions(userService, orderRepository);
     }
 
     @Test
     @DisplayName("""
-            Throws Exception if ShoppingCart of current User is empty
+            Throws Exception if current User has no ShoppingCart
             """)
-    void createOrder_EmptyShippingCart_ThrowsException() {
-        when(userService.getCurrentUser()).thenReturn(user);
-        when(cartRepository.findByUser(user)).thenReturn(Optional.empty());
+    void createOrder_NoShoppingCart_ThrowsException() {
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(cartRepository.findForUpdateByUserId(user.getId())).thenReturn(Optional.empty());
 
         Exception exception = Assertions.assertThrows(
                 EntityNotFoundException.class,
@@ -292,17 +388,44 @@ class OrderServiceTest {
         assertThat(actual).isNotNull();
         assertThat(actual).isEqualTo(expected);
 
-        verify(userService, times(1)).getCurrentUser();
-        verify(cartRepository, times(1)).findByUser(user);
+        verify(userService, times(1)).getCurrentUserId();
+        verify(cartRepository, times(1)).findForUpdateByUserId(user.getId());
         verifyNoMoreInteractions(userService, cartRepository);
     }
 
+    @Test
+    @DisplayName("""
+            Throws Exception if ShoppingCart of current User is empty
+            """)
+    void createOrder_EmptyShoppingCart_ThrowsException() {
+        ShoppingCart cart = new ShoppingCart()
+                .setUser(user);
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(cartRepository.findForUpdateByUserId(user.getId())).thenReturn(Optional.of(cart));
+        when(cartRepository.findByUserId(user.getId())).thenReturn(Optional.of(cart));
+
+        Exception exception = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> orderService.createOrder(new OrderRequestDto())
+        );
+        String actual = exception.getMessage();
+        String expected = "Shopping Cart for User with id: " + user.getId() + " is empty";
+
+        assertThat(actual).isEqualTo(expected);
+
+        verify(userService, times(1)).getCurrentUserId();
+        verify(cartRepository, times(1)).findForUpdateByUserId(user.getId());
+        verify(cartRepository, times(1)).findByUserId(user.getId());
+        verifyNoMoreInteractions(userService, cartRepository);
+        verifyNoInteractions(orderRepository, itemRepository, cartItemRepository);
+    }
+
     @Test
     @DisplayName("""
             Throws Exception for invalid OrderId
             """)
     void updateOrderStatus_InvalidId_ThrowsException() {
-        when(orderRepository.findById(INVALID_ID)).thenReturn(Optional.empty());
+        when(orderRepository.findResponseById(INVALID_ID)).thenReturn(Optional.empty());
 
         Exception exception = Assertions.assertThrows(
                 EntityNotFoundException.class,
@@ -315,7 +438,7 @@ class OrderServiceTest {
         assertThat(actual).isNotNull();
         assertThat(actual).isEqualTo(expected);
 
-        verify(orderRepository, times(1)).findById(INVALID_ID);
+        verify(orderRepository, times(1)).findResponseById(INVALID_ID);
         verifyNoMoreInteractions(orderRepository);
     }
 
@@ -324,9 +447,9 @@ class OrderServiceTest {
             Throws Exception with invalid ItemId  
             """)
     void getOrderItemByOrderAndItemIds_InvalidItemId_ThrowsException() {
-        when(userService.getCurrentUser()).thenReturn(user);
-        when(orderRepository.existsByIdAndUser(ID_ONE, user)).thenReturn(true);
-        when(orderRepository.findById(ID_ONE)).thenReturn(Optional.of(order));
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(orderRepository.existsByIdAndUserId(ID_ONE, user.getId())).thenReturn(true);
+        when(itemRepository.findByIdAndOrderId(INVALID_ID, ID_ONE)).thenReturn(Optional.empty());
 
         Exception exception = Assertions.assertThrows(
                 EntityNotFoundException.class,
@@ -341,10 +464,10 @@ class OrderServiceTest {
         assertThat(actual).isNotNull();
         assertThat(actual).isEqualTo(expected);
 
-        verify(userService, times(1)).getCurrentUser();
-        verify(orderRepository, times(1)).existsByIdAndUser(ID_ONE, user);
-        verify(orderRepository, times(1)).findById(ID_ONE);
-        verifyNoMoreInteractions(userService, orderRepository);
+        verify(userService, times(1)).getCurrentUserId();
+        verify(orderRepository, times(1)).existsByIdAndUserId(ID_ONE, user.getId());
+        verify(itemRepository, times(1)).findByIdAndOrderId(INVALID_ID, ID_ONE);
+        verifyNoMoreInteractions(userService, orderRepository, itemRepository);
     }
 
     private static User createUser() {
@@ -0,0 +1,106 @@
+package com.example.onlinebookstore.service;
+
+import static com.example.onlinebookstore.controller.OrderControllerTest.addOrders;
+import static com.example.onlinebookstore.controller.OrderControllerTest.addUsers;
+import static com.example.onlinebookstore.controller.OrderControllerTest.deleteOrders;
+import static com.example.onlinebookstore.controller.OrderControllerTest.deleteUsers;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.onlinebookstore.dto.order.OrderResponseDto;
+import com.example.onlinebookstore.dto.order.OrderStatusDto;
+import com.example.onlinebookstore.model.Order;
+import com.example.onlinebookstore.repository.order.OrderRepository;
+import com.example.onlinebookstore.service.order.OrderService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+@SpringBootTest
+class OrderStatusConcurrencyTest {
+    private static final Long ORDER_ID = 2L;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @BeforeAll
+    static void beforeAll(@Autowired DataSource dataSource) {
+        deleteOrders(dataSource);
+        deleteUsers(dataSource);
+        addUsers(dataSource);
+        addOrders(dataSource);
+    }
+
+    @AfterAll
+    static void afterAll(@Autowired DataSource dataSource) {
+        deleteOrders(dataSource);
+        deleteUsers(dataSource);
+    }
+
+    @Test
+    @DisplayName("""
+            Must apply every status transition exactly once under concurrent admins
+            """)
+    void updateOrderStatus_ConcurrentAdmins_NoLostUpdates() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Queue<Long> appliedVersions = new ConcurrentLinkedQueue<>();
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            workers.add(executor.submit(() -> {
+                start.await();
+                advanceUntilCompleted(appliedVersions);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        OrderResponseDto actual = orderRepository.findResponseById(ORDER_ID).orElseThrow();
+        assertThat(actual.getStatus()).isEqualTo(Order.Status.COMPLETED);
+        assertThat(actual.getVersion()).isEqualTo(3L);
+        assertThat(appliedVersions).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    private void advanceUntilCompleted(Queue<Long> appliedVersions) {
+        while (true) {
+            OrderResponseDto current = orderRepository.findResponseById(ORDER_ID).orElseThrow();
+            Optional<Order.Status> next = Arrays.stream(Order.Status.values())
+                    .filter(current.getStatus()::canTransitionTo)
+                    .findFirst();
+            if (next.isEmpty()) {
+                return;
+            }
+            try {
+                OrderResponseDto updated = orderService.updateOrderStatus(ORDER_ID,
+                        new OrderStatusDto()
+                                .setStatus(next.get())
+                                .setVersion(current.getVersion()));
+                appliedVersions.add(updated.getVersion());
+            } catch (OptimisticLockingFailureException e) {
+                // another admin moved the order first, re-read and try the next step
+            }
+        }
+    }
+}
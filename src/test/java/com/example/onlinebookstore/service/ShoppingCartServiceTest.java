@@ -12,6 +12,7 @@ import com.example.onlinebookstore.dto.cart.CartItemQuantityDto;
 import com.example.onlinebookstore.dto.cart.CartItemRequestDto;
 import com.example.onlinebookstore.dto.cart.CartItemResponseDto;
 import com.example.onlinebookstore.dto.cart.CartResponseDto;
+import com.example.onlinebookstore.dto.cart.CartSummaryDto;
 import com.example.onlinebookstore.mapper.CartItemMapper;
 import com.example.onlinebookstore.mapper.CartMapper;
 import com.example.onlinebookstore.model.Book;
@@ -87,8 +88,8 @@ class ShoppingCartServiceTest {
             Must return expected Cart
             """)
     void getCartForCurrentUser_ValidRequest_Ok() {
-        when(userService.getCurrentUser()).thenReturn(user);
-        when(cartRepository.findByUser(user)).thenReturn(Optional.of(shoppingCart));
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(cartRepository.findByUserId(user.getId())).thenReturn(Optional.of(shoppingCart));
         when(cartMapper.toDto(shoppingCart)).thenReturn(cartExpected);
         when(itemMapper.toDto(firstItem)).thenReturn(firstItemExpected);
         when(itemMapper.toDto(secondItem)).thenReturn(secondItemExpected);
@@ -98,8 +99,8 @@ class ShoppingCartServiceTest {
         assertThat(actual).isNotNull();
         assertThat(actual).isEqualTo(cartExpected);
 
-        verify(userService, Mockito.times(2)).getCurrentUser();
-        verify(cartRepository, Mockito.times(1)).findByUser(user);
+        verify(userService, Mockito.times(1)).getCurrentUserId();
+        verify(cartRepository, Mockito.times(1)).findByUserId(user.getId());
         verify(cartMapper, Mockito.times(1)).toDto(shoppingCart);
         verify(itemMapper, Mockito.times(1)).toDto(firstItem);
         verify(itemMapper, Mockito.times(1)).toDto(secondItem);
@@ -121,37 +122,69 @@ class ShoppingCartServiceTest {
                 .setBookId(ID_THREE)
                 .setQuantity(1);
         CartItem item = new CartItem()
-                .setBook(book)
                 .setQuantity(request.getQuantity());
         ShoppingCart cart = new ShoppingCart()
+                .setId(ID_ONE)
                 .setUser(user);
         CartItemResponseDto expectedItem = new CartItemResponseDto()
                 .setBookId(book.getId())
                 .setBookTitle(book.getTitle())
                 .setQuantity(item.getQuantity())
                 .setId(ID_THREE);
-        when(userService.getCurrentUser()).thenReturn(user);
-        when(cartRepository.findByUser(user)).thenReturn(Optional.empty());
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(cartRepository.findIdByUserId(user.getId())).thenReturn(Optional.empty());
+        when(userService.getCurrentUserReference()).thenReturn(user);
         when(cartRepository.save(Mockito.any(ShoppingCart.class))).thenReturn(cart);
-        when((itemMapper.toModel(request))).thenReturn(item);
-        when(bookRepository.findById(ID_THREE)).thenReturn(Optional.of(book));
-        when(cartItemRepository.save(item)).thenReturn(item);
+        when(cartItemRepository.addQuantity(ID_ONE, ID_THREE, 1)).thenReturn(0);
+        when(bookRepository.existsById(ID_THREE)).thenReturn(true);
+        when(itemMapper.toModel(request)).thenReturn(item);
+        when(cartRepository.getReferenceById(ID_ONE)).thenReturn(cart);
+        when(bookRepository.getReferenceById(ID_THREE)).thenReturn(book);
+        when(cartItemRepository.saveAndFlush(item)).thenReturn(item);
+        when(cartItemRepository.findByShoppingCartIdAndBookId(ID_ONE, ID_THREE))
+                .thenReturn(Optional.of(item));
         when(itemMapper.toDto(item)).thenReturn(expectedItem);
 
         CartItemResponseDto actual = cartService.addBookToCart(request);
 
         assertThat(actual).isNotNull();
         assertThat(actual).isEqualTo(expectedItem);
+        assertThat(item.getBook()).isEqualTo(book);
+        assertThat(item.getShoppingCart()).isEqualTo(cart);
 
-        verify(userService, times(1)).getCurrentUser();
-        verify(cartRepository, times(1)).findByUser(user);
         verify(cartRepository, times(1)).save(Mockito.any(ShoppingCart.class));
-        verify(itemMapper, times(1)).toModel(request);
-        verify(bookRepository, times(1)).findById(ID_THREE);
-        verify(cartItemRepository, times(1)).save(item);
-        verify(itemMapper, times(1)).toDto(item);
-        verifyNoMoreInteractions(userService, cartRepository,
-                itemMapper, bookRepository, cartItemRepository, cartMapper);
+        verify(cartItemRepository, times(1)).saveAndFlush(item);
+        verify(cartRepository, times(1)).refreshSummary(ID_ONE);
+        verifyNoMoreInteractions(cartMapper);
+    }
+
+    @Test
+    @DisplayName("""
+            Must increase quantity of a Book that is already in ShoppingCart
+            """)
+    void addBookToCart_BookAlreadyInCart_QuantityIncreased() {
+        CartItemRequestDto request = new CartItemRequestDto()
+                .setBookId(firstBook.getId())
+                .setQuantity(1);
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(cartRepository.findIdByUserId(user.getId()))
+                .thenReturn(Optional.of(shoppingCart.getId()));
+        when(cartItemRepository.addQuantity(shoppingCart.getId(), firstBook.getId(), 1))
+                .thenReturn(1);
+        when(cartItemRepository.findByShoppingCartIdAndBookId(
+                shoppingCart.getId(), firstBook.getId()))
+                .thenReturn(Optional.of(firstItem));
+        when(itemMapper.toDto(firstItem)).thenReturn(firstItemExpected);
+
+        CartItemResponseDto actual = cartService.addBookToCart(request);
+
+        assertThat(actual).isEqualTo(firstItemExpected);
+        verify(cartItemRepository, times(1))
+                .addQuantity(shoppingCart.getId(), firstBook.getId(), 1);
+        verify(cartItemRepository, times(1))
+                .findByShoppingCartIdAndBookId(shoppingCart.getId(), firstBook.getId());
+        verify(cartRepository, times(1)).refreshSummary(shoppingCart.getId());
+        verifyNoMoreInteractions(cartItemRepository, bookRepository, itemMapper);
     }
 
     @Test
@@ -161,14 +194,14 @@ class ShoppingCartServiceTest {
     void updateQuantityOfBook_ValidRequest_Ok() {
         CartItemQuantityDto updateRequest = new CartItemQuantityDto()
                 .setQuantity(3);
-        CartItem item = new CartItem()
-                .setQuantity(1);
         CartItem updatedItem = new CartItem()
                 .setQuantity(updateRequest.getQuantity());
         CartItemResponseDto expected = new CartItemResponseDto()
                 .setQuantity(updatedItem.getQuantity());
-        when(cartItemRepository.findById(ID_ONE)).thenReturn(Optional.of(item));
-        when(cartItemRepository.save(updatedItem)).thenReturn(updatedItem);
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(cartItemRepository.updateQuantityByIdAndUserId(ID_ONE, user.getId(), 3))
+                .thenReturn(1);
+        when(cartItemRepository.findWithBookById(ID_ONE)).thenReturn(Optional.of(updatedItem));
         when(itemMapper.toDto(updatedItem)).thenReturn(expected);
 
         CartItemResponseDto actual = cartService.updateQuantityOfBook(ID_ONE, updateRequest);
@@ -176,34 +209,90 @@ class ShoppingCartServiceTest {
         assertThat(actual).isNotNull();
         assertThat(actual).isEqualTo(expected);
 
-        verify(cartItemRepository, Mockito.times(1)).findById(ID_ONE);
-        verify(cartItemRepository, Mockito.times(1)).save(updatedItem);
+        verify(cartItemRepository, Mockito.times(1))
+                .updateQuantityByIdAndUserId(ID_ONE, user.getId(), 3);
+        verify(cartItemRepository, Mockito.times(1)).findWithBookById(ID_ONE);
         verify(itemMapper, times(1)).toDto(updatedItem);
         verifyNoMoreInteractions(cartItemRepository, itemMapper);
     }
 
+    @Test
+    @DisplayName("""
+            Check if user can update an item not from his ShoppingCart
+            """)
+    void updateQuantityOfBook_ItemOfAnotherUser_ThrowsException() {
+        CartItemQuantityDto updateRequest = new CartItemQuantityDto()
+                .setQuantity(3);
+        when(userService.getCurrentUserId()).thenReturn(ID_TWO);
+        when(cartItemRepository.updateQuantityByIdAndUserId(ID_ONE, ID_TWO, 3)).thenReturn(0);
+        when(cartItemRepository.existsById(ID_ONE)).thenReturn(true);
+
+        Exception exception = Assertions.assertThrows(
+                org.springframework.security.access.AccessDeniedException.class,
+                () -> cartService.updateQuantityOfBook(ID_ONE, updateRequest)
+        );
+
+        assertEquals("You are not allowed to update Cart Item with id: " + ID_ONE,
+                exception.getMessage());
+        verifyNoMoreInteractions(itemMapper);
+    }
+
     @Test
     @DisplayName("""
             Must delete CartItem from ShoppingCart
             """)
     void deleteItemFromShoppingCart_ValidId_Ok() {
-
-        when(userService.getCurrentUser()).thenReturn(user);
-        when(cartItemRepository.findById(ID_TWO)).thenReturn(Optional.of(secondItem));
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(cartItemRepository.deleteByIdAndUserId(ID_TWO, user.getId())).thenReturn(1);
+        when(cartRepository.findIdByUserId(user.getId()))
+                .thenReturn(Optional.of(shoppingCart.getId()));
 
         cartService.deleteItemFromShoppingCart(ID_TWO);
 
-        verify(cartItemRepository, times(1)).delete(secondItem);
-        verify(userService, times(1)).getCurrentUser();
+        verify(cartItemRepository, times(1)).deleteByIdAndUserId(ID_TWO, user.getId());
+        verify(userService, times(1)).getCurrentUserId();
+        verify(cartRepository, times(1)).refreshSummary(shoppingCart.getId());
         verifyNoMoreInteractions(cartItemRepository, userService);
     }
 
+    @Test
+    @DisplayName("""
+            Must return the stored Cart summary without loading Items
+            """)
+    void getCartSummaryForCurrentUser_ExistingCart_Ok() {
+        CartSummaryDto expected = new CartSummaryDto(2, 3, BigDecimal.valueOf(99));
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(cartRepository.findSummaryByUserId(user.getId())).thenReturn(Optional.of(expected));
+
+        CartSummaryDto actual = cartService.getCartSummaryForCurrentUser();
+
+        assertThat(actual).isEqualTo(expected);
+        verify(cartRepository, times(1)).findSummaryByUserId(user.getId());
+        verifyNoMoreInteractions(cartRepository, cartItemRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            Must return an empty summary when User has no Cart yet
+            """)
+    void getCartSummaryForCurrentUser_NoCart_EmptySummary() {
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(cartRepository.findSummaryByUserId(user.getId())).thenReturn(Optional.empty());
+
+        CartSummaryDto actual = cartService.getCartSummaryForCurrentUser();
+
+        assertThat(actual).isEqualTo(new CartSummaryDto(0, 0, BigDecimal.ZERO));
+        verifyNoMoreInteractions(cartRepository);
+    }
+
     @Test
     @DisplayName("""
             Must return EntityNotFoundException with invalid Id
             """)
     void deleteBook_InvalidId_ThrowsException() {
-        when(cartItemRepository.findById(INVALID_ID)).thenReturn(Optional.empty());
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(cartItemRepository.deleteByIdAndUserId(INVALID_ID, user.getId())).thenReturn(0);
+        when(cartItemRepository.existsById(INVALID_ID)).thenReturn(false);
 
         Exception exception = assertThrows(EntityNotFoundException.class,
                 () -> cartService.deleteItemFromShoppingCart(INVALID_ID)
@@ -213,7 +302,8 @@ class ShoppingCartServiceTest {
         String actual = exception.getMessage();
 
         Assertions.assertEquals(expected, actual);
-        verify(cartItemRepository, times(1)).findById(INVALID_ID);
+        verify(cartItemRepository, times(1)).deleteByIdAndUserId(INVALID_ID, user.getId());
+        verify(cartItemRepository, times(1)).existsById(INVALID_ID);
         verifyNoMoreInteractions(cartItemRepository);
     }
 
@@ -225,11 +315,11 @@ class ShoppingCartServiceTest {
         CartItemRequestDto request = new CartItemRequestDto()
                 .setBookId(INVALID_ID)
                 .setQuantity(2);
-        CartItem item = new CartItem()
-                .setQuantity(request.getQuantity());
-        when(userService.getCurrentUser()).thenReturn(user);
-        when(cartRepository.findByUser(user)).thenReturn(Optional.of(shoppingCart));
-        when(itemMapper.toModel(request)).thenReturn(item);
+        when(userService.getCurrentUserId()).thenReturn(user.getId());
+        when(cartRepository.findIdByUserId(user.getId()))
+                .thenReturn(Optional.of(shoppingCart.getId()));
+        when(cartItemRepository.addQuantity(shoppingCart.getId(), INVALID_ID, 2)).thenReturn(0);
+        when(bookRepository.existsById(INVALID_ID)).thenReturn(false);
 
         Exception exception = Assertions.assertThrows(EntityNotFoundException.class,
                 () -> cartService.addBookToCart(request)
@@ -239,10 +329,10 @@ class ShoppingCartServiceTest {
         String actual = exception.getMessage();
 
         assertEquals(expected, actual);
-        verify(userService, times(1)).getCurrentUser();
-        verify(cartRepository, times(1)).findByUser(user);
-        verify(itemMapper, times(1)).toModel(request);
-        verifyNoMoreInteractions(userService, cartRepository, itemMapper);
+        verify(userService, times(1)).getCurrentUserId();
+        verify(cartRepository, times(1)).findIdByUserId(user.getId());
+        verify(bookRepository, times(1)).existsById(INVALID_ID);
+        verifyNoMoreInteractions(userService, cartRepository, itemMapper, bookRepository);
     }
 
     @Test
@@ -250,10 +340,12 @@ class ShoppingCartServiceTest {
             Check if user can delete an item not from his ShoppingCart
             """)
     void deleteItemFromShoppingCart_IncorrectCartIdForUser_ThrowsException() {
-        User currentUser = new User();
+        User currentUser = new User()
+                .setId(ID_TWO);
 
-        when(cartItemRepository.findById(ID_TWO)).thenReturn(Optional.of(secondItem));
-        when(userService.getCurrentUser()).thenReturn(currentUser);
+        when(userService.getCurrentUserId()).thenReturn(currentUser.getId());
+        when(cartItemRepository.deleteByIdAndUserId(ID_TWO, currentUser.getId())).thenReturn(0);
+        when(cartItemRepository.existsById(ID_TWO)).thenReturn(true);
 
         Exception exception = Assertions.assertThrows(
                 org.springframework.security.access.AccessDeniedException.class,
@@ -264,8 +356,9 @@ class ShoppingCartServiceTest {
         String actual = exception.getMessage();
 
         Assertions.assertEquals(expected, actual);
-        verify(cartItemRepository, times(1)).findById(ID_TWO);
-        verify(userService, times(1)).getCurrentUser();
+        verify(cartItemRepository, times(1)).deleteByIdAndUserId(ID_TWO, currentUser.getId());
+        verify(cartItemRepository, times(1)).existsById(ID_TWO);
+        verify(userService, times(1)).getCurrentUserId();
         verifyNoMoreInteractions(cartItemRepository, userService);
     }
 
@@ -280,6 +373,7 @@ class ShoppingCartServiceTest {
 
     private static ShoppingCart createShoppingCart() {
         return new ShoppingCart()
+                .setId(ID_ONE)
                 .setUser(user);
     }
 
@@ -15,16 +15,20 @@ import com.example.onlinebookstore.model.Role;
 import com.example.onlinebookstore.model.User;
 import com.example.onlinebookstore.repository.role.RoleRepository;
 import com.example.onlinebookstore.repository.user.UserRepository;
+import com.example.onlinebookstore.security.AuthenticatedUser;
 import com.example.onlinebookstore.service.user.impl.UserServiceImpl;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +44,11 @@ class UserServiceTest {
     @InjectMocks
     private UserServiceImpl userService;
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     @DisplayName("""
             Must register new User
@@ -108,4 +117,23 @@ class UserServiceTest {
         verify(userRepository, times(1)).findByEmail(request.getEmail());
         verifyNoMoreInteractions(userRepository);
     }
+
+    @Test
+    @DisplayName("""
+            Must take the current user id from the cached principal without a query
+            """)
+    void getCurrentUserId_AuthenticatedUserPrincipal_NoQuery() {
+        User user = new User()
+                .setId(7L)
+                .setEmail("user@com");
+        AuthenticatedUser principal = AuthenticatedUser.of(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(
+                        principal, null, principal.getAuthorities()));
+
+        Long actual = userService.getCurrentUserId();
+
+        assertThat(actual).isEqualTo(7L);
+        verifyNoMoreInteractions(userRepository);
+    }
 }
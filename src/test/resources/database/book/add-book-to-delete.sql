@@ -1 +1,2 @@
-INSERT INTO books (id, author, title, isbn, price) values (6, 'Ernest Hemingway', 'the old man and the sea', '1535151351', 17)
\ No newline at end of file
+INSERT INTO books (id, author, title, isbn, price) values (6, 'Ernest Hemingway', 'the old man and the sea', '1535151351', 17);
+UPDATE books_seq SET next_val = 7;
@@ -1 +1,2 @@
-INSERT INTO books (id, author, title, isbn, price) values (6, 'Brothers Grimm', 'Rapunzel', '2151513513', 31);
\ No newline at end of file
+INSERT INTO books (id, author, title, isbn, price) values (6, 'Brothers Grimm', 'Rapunzel', '2151513513', 31);
+UPDATE books_seq SET next_val = 7;
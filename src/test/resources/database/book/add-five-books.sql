@@ -2,4 +2,5 @@ INSERT INTO books (id, title, author, isbn, price) values (1, 'Red Riding Hood',
 INSERT INTO books (id, title, author, isbn, price) values (2, 'Snow White', 'Brothers Grimm', '315613616', 33);
 INSERT INTO books (id, title, author, isbn, price) values (3, 'Sherlock Holmes', 'Conan Doyle', '262462462624', 55);
 INSERT INTO books (id, title, author, isbn, price) values (4, 'Pride And Prejudice', 'Jane Austen', '32624624624', 22);
-INSERT INTO books (id, title, author, isbn, price) values (5, 'Fairy tail', 'Stephen King', '3562624626', 66);
\ No newline at end of file
+INSERT INTO books (id, title, author, isbn, price) values (5, 'Fairy tail', 'Stephen King', '3562624626', 66);
+UPDATE books_seq SET next_val = 6;
@@ -0,0 +1,2 @@
+DELETE FROM books_categories WHERE book_id IN (SELECT id FROM books WHERE isbn LIKE 'import-%');
+DELETE FROM books WHERE isbn LIKE 'import-%';
@@ -1,2 +1,3 @@
 INSERT INTO shopping_carts (id, user_id) values (1, 1);
-INSERT INTO shopping_carts (id, user_id) values (2, 2);
\ No newline at end of file
+INSERT INTO shopping_carts (id, user_id) values (2, 2);
+UPDATE shopping_carts_seq SET next_val = 3;
@@ -1 +1,2 @@
-INSERT INTO shopping_carts (id, user_id) values (3, 1);
\ No newline at end of file
+INSERT INTO shopping_carts (id, user_id) values (3, 1);
+UPDATE shopping_carts_seq SET next_val = 4;
@@ -3,3 +3,4 @@ INSERT INTO cart_items (id, shopping_cart_id, book_id, quantity) values (2, 1, 2
 INSERT INTO cart_items (id, shopping_cart_id, book_id, quantity) values (3, 1, 3, 2);
 INSERT INTO cart_items (id, shopping_cart_id, book_id, quantity) values (4, 2, 4, 1);
 INSERT INTO cart_items (id, shopping_cart_id, book_id, quantity) values (5, 2, 5, 2);
+UPDATE cart_items_seq SET next_val = 6;
@@ -0,0 +1,6 @@
+INSERT INTO cart_items (id, shopping_cart_id, book_id, quantity) values (6, 3, 1, 2);
+INSERT INTO cart_items (id, shopping_cart_id, book_id, quantity) values (7, 3, 2, 1);
+INSERT INTO cart_items (id, shopping_cart_id, book_id, quantity) values (8, 3, 3, 1);
+INSERT INTO cart_items (id, shopping_cart_id, book_id, quantity) values (9, 3, 4, 3);
+INSERT INTO cart_items (id, shopping_cart_id, book_id, quantity) values (10, 3, 5, 1);
+UPDATE cart_items_seq SET next_val = 11;
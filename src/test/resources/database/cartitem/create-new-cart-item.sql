@@ -1 +1,2 @@
-INSERT INTO cart_items (id, shopping_cart_id, book_id, quantity) values (6, 3, 1, 2);
\ No newline at end of file
+INSERT INTO cart_items (id, shopping_cart_id, book_id, quantity) values (6, 3, 1, 2);
+UPDATE cart_items_seq SET next_val = 7;
@@ -0,0 +1 @@
+DELETE FROM cart_items ci WHERE ci.shopping_cart_id = 3;
\ No newline at end of file
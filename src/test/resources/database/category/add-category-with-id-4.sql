@@ -1 +1,2 @@
-INSERT INTO categories (id, name) values (4, 'short story');
\ No newline at end of file
+INSERT INTO categories (id, name) values (4, 'short story');
+UPDATE categories_seq SET next_val = 5;
@@ -1,3 +1,4 @@
 INSERT INTO categories (id, name, description) values (1, 'fantasy', 'actions cannot be returned in the real world');
 INSERT INTO categories (id, name, description) values (2, 'fairy tail', 'short stories for children');
 INSERT INTO categories (id, name, description) values (3, 'romance', 'story about lovers');
+UPDATE categories_seq SET next_val = 4;
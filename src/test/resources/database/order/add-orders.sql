@@ -1,2 +1,3 @@
 INSERT INTO orders (id, user_id, total, status, order_date, shipping_address) values (1, 1, 231, 'ON_THE_WAY', CURRENT_DATE, 'address 08');
-INSERT INTO orders (id, user_id, total, status, order_date, shipping_address) values (2, 2, 154, 'PENDING', CURRENT_DATE, 'address 12');
\ No newline at end of file
+INSERT INTO orders (id, user_id, total, status, order_date, shipping_address) values (2, 2, 154, 'PENDING', CURRENT_DATE, 'address 12');
+UPDATE orders_seq SET next_val = 3;
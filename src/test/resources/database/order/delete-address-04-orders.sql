@@ -0,0 +1,3 @@
+DELETE FROM order_items oi WHERE oi.order_id IN
+    (SELECT o.id FROM orders o WHERE o.shipping_address = 'address 04');
+DELETE FROM orders o WHERE o.shipping_address = 'address 04';
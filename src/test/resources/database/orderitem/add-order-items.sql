@@ -2,4 +2,5 @@ INSERT INTO order_items (id, order_id, book_id, price, quantity) values (1, 1, 1
 INSERT INTO order_items (id, order_id, book_id, price, quantity) values (2, 1, 2, 33, 1);
 INSERT INTO order_items (id, order_id, book_id, price, quantity) values (3, 1, 3, 55, 2);
 INSERT INTO order_items (id, order_id, book_id, price, quantity) values (4, 2, 4, 22, 1);
-INSERT INTO order_items (id, order_id, book_id, price, quantity) values (5, 2, 5, 66, 2);
\ No newline at end of file
+INSERT INTO order_items (id, order_id, book_id, price, quantity) values (5, 2, 5, 66, 2);
+UPDATE order_items_seq SET next_val = 6;
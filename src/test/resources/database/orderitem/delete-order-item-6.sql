@@ -1 +1 @@
-DELETE FROM order_items oi WHERE oi.id = 6;
\ No newline at end of file
+DELETE FROM order_items oi WHERE oi.order_id = 3;
\ No newline at end of file
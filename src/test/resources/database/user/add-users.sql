@@ -1,2 +1,3 @@
 INSERT INTO users (id, email, password, first_name, last_name) values (1, 'user@com', '$2a$10$LprrKOtVTKQh8tzSYOnb8eL8xCHZ.CtSP587Egm2KLTq94pEHwgpi', 'user', 'fin');
 INSERT INTO users (id, email, password, first_name, last_name) values (2, 'admin@com', '1234', 'admin', 'sin');
+UPDATE users_seq SET next_val = 3;